@@ -0,0 +1,97 @@
+package org.trustify.operator.benchmarks;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.IndexedResourceCache;
+import io.javaoperatorsdk.operator.api.reconciler.ResourceDiscriminator;
+import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedDependentResourceContext;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.ManagedDependentResourceContext;
+import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A Context as seen by a single reconciliation: a fresh ManagedDependentResourceContext, the given entries and client.
+ * Secondary resources are not available and the informer caches are empty, the benchmarks must not depend on informers.
+ */
+public class BenchmarkContext implements Context<Trustify> {
+
+    private final KubernetesClient client;
+    private final ManagedDependentResourceContext managedDependentResourceContext = new DefaultManagedDependentResourceContext();
+
+    public BenchmarkContext(KubernetesClient client, Map<String, Object> entries) {
+        this.client = client;
+        entries.forEach(managedDependentResourceContext::put);
+    }
+
+    @Override
+    public Optional<RetryInfo> getRetryInfo() {
+        return Optional.empty();
+    }
+
+    @Override
+    public <R> Set<R> getSecondaryResources(Class<R> expectedType) {
+        return Set.of();
+    }
+
+    @Override
+    public <R> Optional<R> getSecondaryResource(Class<R> expectedType, String eventSourceName) {
+        return Optional.empty();
+    }
+
+    @Override
+    public <R> Optional<R> getSecondaryResource(Class<R> expectedType, ResourceDiscriminator<R, Trustify> discriminator) {
+        return Optional.empty();
+    }
+
+    @Override
+    public ControllerConfiguration<Trustify> getControllerConfiguration() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ManagedDependentResourceContext managedDependentResourceContext() {
+        return managedDependentResourceContext;
+    }
+
+    /**
+     * Only looking up the event sources of a type is supported, and none are found.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public EventSourceRetriever<Trustify> eventSourceRetriever() {
+        return (EventSourceRetriever<Trustify>) Proxy.newProxyInstance(
+                EventSourceRetriever.class.getClassLoader(),
+                new Class<?>[]{EventSourceRetriever.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getResourceEventSourcesFor")) {
+                        return List.of();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+
+    @Override
+    public KubernetesClient getClient() {
+        return client;
+    }
+
+    @Override
+    public ExecutorService getWorkflowExecutorService() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IndexedResourceCache<Trustify> getPrimaryCache() {
+        throw new UnsupportedOperationException();
+    }
+}
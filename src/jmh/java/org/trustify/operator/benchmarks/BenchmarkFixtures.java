@@ -0,0 +1,297 @@
+package org.trustify.operator.benchmarks;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.NamespaceableResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.smallrye.config.SmallRyeConfig;
+import io.smallrye.config.SmallRyeConfigBuilder;
+import org.keycloak.k8s.v2alpha1.Keycloak;
+import org.keycloak.k8s.v2alpha1.KeycloakSpec;
+import org.keycloak.k8s.v2alpha1.keycloakspec.Http;
+import org.trustify.operator.Constants;
+import org.trustify.operator.TrustifyConfig;
+import org.trustify.operator.TrustifyImagesConfig;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.metrics.TrustifyMetrics;
+import org.trustify.operator.services.ClusterService;
+import org.trustify.operator.services.KeycloakRealmService;
+import org.trustify.operator.services.KeycloakServerService;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Everything the benchmarks need to run the dependents outside the CDI container and without a cluster.
+ */
+public class BenchmarkFixtures {
+
+    public static final String NAMESPACE = "benchmark";
+
+    /**
+     * Synthetic CRs, from the defaults to every section filled in.
+     */
+    public enum Complexity {
+        MINIMAL("""
+                spec: {}
+                """),
+        EMBEDDED("""
+                spec:
+                  serverInstances: 3
+                  importerInstances: 2
+                  imagePullSecrets:
+                    - name: registry-credentials
+                  hostname:
+                    hostname: trustify.example.com
+                  http:
+                    tlsSecret: server-tls
+                  db:
+                    externalDatabase: false
+                    embedded:
+                      pvcSize: 20Gi
+                      resources:
+                        cpuRequest: 500m
+                        cpuLimit: "2"
+                        memoryRequest: 1Gi
+                        memoryLimit: 4Gi
+                  oidc:
+                    enabled: true
+                    externalServer: false
+                    embedded:
+                      tlsSecret: oidc-tls
+                  storage:
+                    type: FILESYSTEM
+                    compression: ZSTD
+                    filesystem:
+                      pvcSize: 50Gi
+                  serverResources:
+                    cpuRequest: "1"
+                    cpuLimit: "4"
+                    memoryRequest: 2Gi
+                    memoryLimit: 8Gi
+                  importerResources:
+                    cpuRequest: "1"
+                    cpuLimit: "2"
+                    memoryRequest: 1Gi
+                    memoryLimit: 4Gi
+                """),
+        EXTERNAL("""
+                spec:
+                  serverInstances: 5
+                  importerInstances: 4
+                  imagePullPolicy: IfNotPresent
+                  imagePullSecrets:
+                    - name: registry-credentials
+                    - name: mirror-credentials
+                  hostname:
+                    hostname: trustify.example.com
+                  http:
+                    tlsSecret: server-tls
+                  db:
+                    externalDatabase: true
+                    external:
+                      usernameSecret:
+                        name: postgresql
+                        key: username
+                      passwordSecret:
+                        name: postgresql
+                        key: password
+                      host: postgresql.database.svc
+                      port: "5432"
+                      name: trustify
+                      poolMinSize: 5
+                      poolMaxSize: 50
+                      sslMode: require
+                  oidc:
+                    enabled: true
+                    externalServer: true
+                    external:
+                      serverUrl: https://sso.example.com/realms/trustify
+                      uiClientId: frontend
+                      tlsSecret: oidc-tls
+                  storage:
+                    type: S3
+                    compression: ZSTD
+                    s3:
+                      region: eu-west-1
+                      bucket: trustify
+                      accessKey: access
+                      secretKey: secret
+                  serverResources:
+                    cpuRequest: "2"
+                    cpuLimit: "8"
+                    memoryRequest: 4Gi
+                    memoryLimit: 16Gi
+                  importerResources:
+                    cpuRequest: "1"
+                    cpuLimit: "4"
+                    memoryRequest: 2Gi
+                    memoryLimit: 8Gi
+                """);
+
+        private final String yaml;
+
+        Complexity(String yaml) {
+            this.yaml = yaml;
+        }
+
+        public Trustify trustify() {
+            return Serialization.unmarshal("""
+                    apiVersion: org.trustify/v1alpha1
+                    kind: Trustify
+                    metadata:
+                      name: benchmark
+                      namespace: %s
+                      uid: 7f9a1d4e-3c55-4b8f-9e61-5a0e2d1c8b3a
+                      generation: 1
+                    """.formatted(NAMESPACE) + yaml, Trustify.class);
+        }
+    }
+
+    private static final SmallRyeConfig CONFIG = new SmallRyeConfigBuilder()
+            .withMapping(TrustifyConfig.class)
+            .withMapping(TrustifyImagesConfig.class)
+            .withDefaultValues(Map.ofEntries(
+                    Map.entry("trustify.default-pvc-size", "10G"),
+                    Map.entry("trustify.default-requested-cpu", "50m"),
+                    Map.entry("trustify.default-requested-memory", "64Mi"),
+                    Map.entry("trustify.default-limit-cpu", "1"),
+                    Map.entry("trustify.default-limit-memory", "512Mi"),
+                    Map.entry("related.image.ui", "ghcr.io/trustification/trustify-ui:latest"),
+                    Map.entry("related.image.server", "ghcr.io/trustification/trustd:latest"),
+                    Map.entry("related.image.db", "quay.io/sclorg/postgresql-15-c9s:latest"),
+                    Map.entry("related.image.db-pooler", "docker.io/edoburu/pgbouncer:v1.23.1-p2"),
+                    Map.entry("related.image.keycloak", "ghcr.io/trustification/trustify-keycloak:latest"),
+                    Map.entry("related.image.pull-policy", "Always")
+            ))
+            .build();
+
+    public static TrustifyConfig trustifyConfig() {
+        return CONFIG.getConfigMapping(TrustifyConfig.class);
+    }
+
+    public static TrustifyImagesConfig trustifyImagesConfig() {
+        return CONFIG.getConfigMapping(TrustifyImagesConfig.class);
+    }
+
+    public static TrustifyMetrics metrics() {
+        return inject(new TrustifyMetrics(), "registry", new SimpleMeterRegistry());
+    }
+
+    /**
+     * A client that answers GETs of the TLS secrets referenced by the synthetic CRs and nothing else.
+     */
+    public static KubernetesClient mockedClient() {
+        Map<String, Secret> secrets = Map.of(
+                "server-tls", tlsSecret("server-tls"),
+                "oidc-tls", tlsSecret("oidc-tls")
+        );
+
+        return (KubernetesClient) Proxy.newProxyInstance(
+                BenchmarkFixtures.class.getClassLoader(),
+                new Class[]{KubernetesClient.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "resource" -> resource(secrets, (HasMetadata) args[0]);
+                    case "supports" -> false;
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException("Not mocked: " + method);
+                }
+        );
+    }
+
+    private static NamespaceableResource<?> resource(Map<String, Secret> secrets, HasMetadata item) {
+        return (NamespaceableResource<?>) Proxy.newProxyInstance(
+                BenchmarkFixtures.class.getClassLoader(),
+                new Class[]{NamespaceableResource.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "inNamespace" -> proxy;
+                    case "get" -> item instanceof Secret ? secrets.get(item.getMetadata().getName()) : null;
+                    default -> throw new UnsupportedOperationException("Not mocked: " + method);
+                }
+        );
+    }
+
+    private static Secret tlsSecret(String name) {
+        return new SecretBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withNamespace(NAMESPACE)
+                .endMetadata()
+                .withType("kubernetes.io/tls")
+                .addToData("tls.crt", Base64.getEncoder().encodeToString("certificate".getBytes()))
+                .addToData("tls.key", Base64.getEncoder().encodeToString("key".getBytes()))
+                .build();
+    }
+
+    public static ClusterService clusterService(KubernetesClient client) {
+        ClusterService clusterService = inject(new ClusterService(), "k8sClient", client);
+        inject(clusterService, "metrics", metrics());
+        invoke(clusterService, "init");
+        return clusterService;
+    }
+
+    /**
+     * A KeycloakServerService that serves the embedded Keycloak without going through the informers.
+     */
+    public static KeycloakServerService keycloakServerService() {
+        Keycloak keycloak = new Keycloak();
+        keycloak.setSpec(new KeycloakSpec());
+        keycloak.getSpec().setHttp(new Http());
+        keycloak.getSpec().getHttp().setHttpEnabled(true);
+
+        return new KeycloakServerService() {
+            @Override
+            public Optional<Keycloak> getCurrentInstance(Trustify cr, Context<Trustify> context) {
+                return Optional.of(keycloak);
+            }
+        };
+    }
+
+    public static BenchmarkContext context(Trustify cr, KubernetesClient client, ClusterService clusterService) {
+        return new BenchmarkContext(client, Map.of(
+                Constants.CLUSTER_SERVICE, clusterService,
+                Constants.CONTEXT_KEYCLOAK_SERVER_SERVICE_KEY, keycloakServerService(),
+                Constants.CONTEXT_KEYCLOAK_REALM_SERVICE_KEY, new KeycloakRealmService()
+        ));
+    }
+
+    public static <T> T inject(T bean, String fieldName, Object value) {
+        try {
+            Field field = findField(bean.getClass(), fieldName);
+            field.setAccessible(true);
+            field.set(bean, value);
+            return bean;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void invoke(Object bean, String methodName) {
+        try {
+            Method method = bean.getClass().getDeclaredMethod(methodName);
+            method.setAccessible(true);
+            method.invoke(bean);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Field findField(Class<?> type, String fieldName) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                // Keep looking in the superclass
+            }
+        }
+        throw new NoSuchFieldException(fieldName);
+    }
+}
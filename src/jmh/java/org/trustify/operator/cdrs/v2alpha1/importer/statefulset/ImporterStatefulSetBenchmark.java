@@ -0,0 +1,54 @@
+package org.trustify.operator.cdrs.v2alpha1.importer.statefulset;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.benchmarks.BenchmarkFixtures;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.ClusterService;
+import org.trustify.operator.services.PersistentVolumeClaimService;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ImporterStatefulSetBenchmark {
+
+    @Param
+    BenchmarkFixtures.Complexity complexity;
+
+    private Trustify cr;
+    private KubernetesClient client;
+    private ClusterService clusterService;
+    private ImporterStatefulSet importerStatefulSet;
+    private StatefulSet actual;
+
+    @Setup
+    public void setup() {
+        cr = complexity.trustify();
+        client = BenchmarkFixtures.mockedClient();
+        clusterService = BenchmarkFixtures.clusterService(client);
+
+        ImporterStatefulSetConfigurator configurator = new ImporterStatefulSetConfigurator();
+        configurator.trustifyConfig = BenchmarkFixtures.trustifyConfig();
+        configurator.trustifyImagesConfig = BenchmarkFixtures.trustifyImagesConfig();
+
+        importerStatefulSet = new ImporterStatefulSet();
+        importerStatefulSet.trustifyConfig = BenchmarkFixtures.trustifyConfig();
+        importerStatefulSet.importerConfigurator = configurator;
+        importerStatefulSet.persistentVolumeClaimService = BenchmarkFixtures.inject(new PersistentVolumeClaimService(), "metrics", BenchmarkFixtures.metrics());
+
+        actual = importerStatefulSet.desired(cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+    @Benchmark
+    public Matcher.Result<StatefulSet> match() {
+        return importerStatefulSet.match(actual, cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+}
@@ -0,0 +1,70 @@
+package org.trustify.operator.cdrs.v2alpha1.server.configmap;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.benchmarks.BenchmarkFixtures;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.ClusterService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthTemplate is a type-safe template whose implementation is generated by the Quarkus build, so outside Quarkus
+ * the same template file is rendered by a standalone Qute engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServerConfigMapBenchmark {
+
+    @Param
+    BenchmarkFixtures.Complexity complexity;
+
+    private Trustify cr;
+    private KubernetesClient client;
+    private ClusterService clusterService;
+    private ServerConfigMap serverConfigMap;
+    private Template authTemplate;
+
+    @Setup
+    public void setup() throws IOException {
+        cr = complexity.trustify();
+        client = BenchmarkFixtures.mockedClient();
+        clusterService = BenchmarkFixtures.clusterService(client);
+
+        serverConfigMap = new ServerConfigMap();
+        serverConfigMap.k8sClient = client;
+        serverConfigMap.metrics = BenchmarkFixtures.metrics();
+
+        try (InputStream template = ServerConfigMapBenchmark.class.getClassLoader().getResourceAsStream("templates/auth.yaml")) {
+            authTemplate = Engine.builder()
+                    .addDefaults()
+                    .addValueResolver(new ReflectionValueResolver())
+                    .build()
+                    .parse(new String(template.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Benchmark
+    public Optional<AuthTemplate.Data> getAuthData() {
+        return serverConfigMap.getAuthData(cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+    @Benchmark
+    public String getAuthValue() {
+        Optional<String> yamlFile = serverConfigMap.getAuthData(cr, BenchmarkFixtures.context(cr, client, clusterService))
+                .map(data -> authTemplate.data("data", data).render());
+        return "\n" + yamlFile.orElse("");
+    }
+
+}
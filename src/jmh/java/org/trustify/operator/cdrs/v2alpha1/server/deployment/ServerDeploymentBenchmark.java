@@ -0,0 +1,65 @@
+package org.trustify.operator.cdrs.v2alpha1.server.deployment;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.benchmarks.BenchmarkFixtures;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.services.ClusterService;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServerDeploymentBenchmark {
+
+    @Param
+    BenchmarkFixtures.Complexity complexity;
+
+    private Trustify cr;
+    private KubernetesClient client;
+    private ClusterService clusterService;
+    private ServerDeploymentConfigurator configurator;
+    private ServerDeployment serverDeployment;
+    private Deployment actual;
+
+    @Setup
+    public void setup() {
+        cr = complexity.trustify();
+        client = BenchmarkFixtures.mockedClient();
+        clusterService = BenchmarkFixtures.clusterService(client);
+
+        configurator = new ServerDeploymentConfigurator();
+        configurator.trustifyConfig = BenchmarkFixtures.trustifyConfig();
+        configurator.trustifyImagesConfig = BenchmarkFixtures.trustifyImagesConfig();
+        configurator.serverUtils = BenchmarkFixtures.inject(new ServerUtils(), "clusterService", clusterService);
+
+        serverDeployment = new ServerDeployment();
+        serverDeployment.distConfigurator = configurator;
+
+        actual = serverDeployment.desired(cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+    @Benchmark
+    public ResourceConfigurator.Config configureDeployment() {
+        return configurator.configureDeployment(cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+    @Benchmark
+    public Deployment desired() {
+        return serverDeployment.desired(cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+    @Benchmark
+    public Matcher.Result<Deployment> match() {
+        return serverDeployment.match(actual, cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+}
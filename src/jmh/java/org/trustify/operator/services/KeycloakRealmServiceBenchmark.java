@@ -0,0 +1,47 @@
+package org.trustify.operator.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.benchmarks.BenchmarkFixtures;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeycloakRealmServiceBenchmark {
+
+    @Param
+    BenchmarkFixtures.Complexity complexity;
+
+    private Trustify cr;
+    private KubernetesClient client;
+    private ClusterService clusterService;
+    private KeycloakRealmService keycloakRealmService;
+
+    @Setup
+    public void setup() {
+        cr = complexity.trustify();
+        client = BenchmarkFixtures.mockedClient();
+        clusterService = BenchmarkFixtures.clusterService(client);
+
+        keycloakRealmService = new KeycloakRealmService();
+        keycloakRealmService.k8sClient = client;
+        keycloakRealmService.metrics = BenchmarkFixtures.metrics();
+        keycloakRealmService.trustifyConfig = BenchmarkFixtures.trustifyConfig();
+        keycloakRealmService.objectMapper = new ObjectMapper();
+        keycloakRealmService.init();
+    }
+
+    @Benchmark
+    public KeycloakRealmImport initInstance() {
+        return keycloakRealmService.initInstance(cr, BenchmarkFixtures.context(cr, client, clusterService));
+    }
+
+}
@@ -13,11 +13,16 @@ public class Constants {
     public static final String CRDS_VERSION = "v1alpha1";
 
     public static final String CLUSTER_SERVICE = "kubernetesCluster";
+    public static final String CONTEXT_KEYCLOAK_OPERATOR_SERVICE_KEY = "keycloakOperatorService";
     public static final String CONTEXT_KEYCLOAK_SERVER_SERVICE_KEY = "keycloakServerService";
     public static final String CONTEXT_KEYCLOAK_REALM_SERVICE_KEY = "keycloakRealmService";
+    public static final String CONTEXT_IMPORTER_AUTOSCALER_SERVICE_KEY = "importerAutoscalerService";
 
-    public static final String KEYCLOAK = "keycloak";
-    public static final String KEYCLOAK_REALM_IMPORT = "keycloakRealmImport";
+    public static final String MANAGED_BY_LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator";
+    public static final String POD_TEMPLATE_HASH_ANNOTATION = "trustify-operator/pod-template-hash";
+    public static final String SERVER_IMAGE_ANNOTATION = "trustify-operator/server-image";
+    public static final String CONFIG_HASH_ANNOTATION = "trustify-operator/config-hash";
+    public static final String MIGRATION_HASH_ANNOTATION = "trustify-operator/migration-hash";
 
     public record Resource(String name, String labelSelector, Trustify cr) {
     }
@@ -45,6 +50,7 @@ public class Constants {
     public static final String TRUSTI_SERVER_NAME = "trustify-server";
     public static final String TRUSTI_IMPORTER_NAME = "trustify-importer";
     public static final String TRUSTI_DB_NAME = "trustify-db";
+    public static final String TRUSTI_DB_POOLER_NAME = "trustify-db-pooler";
 
     public static final String KEYCLOAK_NAME = "keycloak";
     public static final String KEYCLOAK_DB_NAME = KEYCLOAK_NAME + "-db";
@@ -54,18 +60,28 @@ public class Constants {
 
     //
     public static final String DB_PVC_SUFFIX = "-" + TRUSTI_DB_NAME + "-pvc";
+    public static final String DB_WAL_PVC_SUFFIX = "-" + TRUSTI_DB_NAME + "-wal-pvc";
     public static final String DB_SECRET_SUFFIX = "-" + TRUSTI_DB_NAME + "-secret";
+    public static final String DB_CONFIG_MAP_SUFFIX = "-" + TRUSTI_DB_NAME + "-configmap";
     public static final String DB_DEPLOYMENT_SUFFIX = "-" + TRUSTI_DB_NAME + "-deployment";
     public static final String DB_SERVICE_SUFFIX = "-" + TRUSTI_DB_NAME + "-service";
 
+    public static final String DB_POOLER_DEPLOYMENT_SUFFIX = "-" + TRUSTI_DB_POOLER_NAME + "-deployment";
+    public static final String DB_POOLER_SERVICE_SUFFIX = "-" + TRUSTI_DB_POOLER_NAME + "-service";
+
     public static final String UI_DEPLOYMENT_SUFFIX = "-" + TRUSTI_UI_NAME + "-deployment";
     public static final String UI_SERVICE_SUFFIX = "-" + TRUSTI_UI_NAME + "-service";
+    public static final String UI_HPA_SUFFIX = "-" + TRUSTI_UI_NAME + "-hpa";
 
     public static final String SERVER_CONFIG_MAP_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-configmap";
     public static final String SERVER_PVC_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-pvc";
+    public static final String SERVER_CACHE_PVC_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-cache-pvc";
     public static final String SERVER_DEPLOYMENT_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-deployment";
     public static final String SERVER_SERVICE_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-service";
+    public static final String SERVER_HPA_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-hpa";
+    public static final String SERVER_MIGRATION_JOB_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-migration";
 
+    public static final String IMPORTER_CONFIG_MAP_SUFFIX = "-" + TRUSTI_IMPORTER_NAME + "-configmap";
     public static final String IMPORTER_STATEFUL_SET_SUFFIX = "-" + TRUSTI_IMPORTER_NAME + "-statefulset";
 
     public static final String OIDC_DB_PVC_SUFFIX = "-" + KEYCLOAK_DB_NAME + "-pvc";
@@ -80,4 +96,5 @@ public class Constants {
     public static final String DB_SECRET_PASSWORD = "password";
     public static final String DB_NAME = "trustify";
     public static final Integer DB_PORT = 5432;
+    public static final Integer DB_POOLER_PORT = 6432;
 }
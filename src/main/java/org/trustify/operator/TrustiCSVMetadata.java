@@ -41,17 +41,28 @@ import io.quarkiverse.operatorsdk.annotations.SharedCSVMetadata;
                         resources = {"statefulsets"},
                         verbs = {"*"}
                 ),
+                @CSVMetadata.PermissionRule(
+                        apiGroups = {"batch"},
+                        resources = {"jobs"},
+                        verbs = {"*"}
+                ),
+                @CSVMetadata.PermissionRule(
+                        apiGroups = {"autoscaling"},
+                        resources = {"horizontalpodautoscalers"},
+                        verbs = {"*"}
+                ),
                 @CSVMetadata.PermissionRule(
                         apiGroups = {"config.openshift.io"},
                         resources = {"ingresses"},
                         verbs = {"get", "list"}
                 )
         },
+        // OLM grants the permissions above in every target namespace of the OperatorGroup
         installModes = {
                 @CSVMetadata.InstallMode(type = "OwnNamespace", supported = true),
-                @CSVMetadata.InstallMode(type = "SingleNamespace", supported = false),
-                @CSVMetadata.InstallMode(type = "MultiNamespace", supported = false),
-                @CSVMetadata.InstallMode(type = "AllNamespaces", supported = false)
+                @CSVMetadata.InstallMode(type = "SingleNamespace", supported = true),
+                @CSVMetadata.InstallMode(type = "MultiNamespace", supported = true),
+                @CSVMetadata.InstallMode(type = "AllNamespaces", supported = true)
         },
         icon = @CSVMetadata.Icon(fileName = "icon.png", mediatype = "image/png"),
         description = """
@@ -75,6 +86,9 @@ import io.quarkiverse.operatorsdk.annotations.SharedCSVMetadata;
                 * Server
                 * UI
                 
+                ### Sharding
+                OLM installs the Operator as a single replica Deployment, which handles every watched namespace. Splitting the namespaces across several replicas requires a StatefulSet, one replica per shard, and is available when installing with the Helm chart through its `shards` value.
+                
                 ### Documentation
                 Documentation can be found on our [website](https://trustification.io/).
                 
@@ -1,6 +1,7 @@
 package org.trustify.operator;
 
 import io.smallrye.config.ConfigMapping;
+import io.smallrye.config.WithDefault;
 import io.smallrye.config.WithName;
 
 import java.util.Optional;
@@ -23,12 +24,30 @@ public interface TrustifyConfig {
     @WithName("default-limit-memory")
     String defaultLimitMemory();
 
+    /**
+     * Run the reconciler and the dependent resource workflow on virtual threads.
+     * Their concurrency is set with quarkus.operator-sdk.concurrent-reconciliation-threads and
+     * quarkus.operator-sdk.concurrent-workflow-threads.
+     */
+    @WithName("virtual-threads")
+    @WithDefault("false")
+    boolean virtualThreads();
+
     @WithName("keycloak-operator.subscription")
     Optional<KeycloakSubscriptionConfig> keycloakSubscriptionConfig();
 
     @WithName("keycloak-operator.resources")
     Optional<KeycloakResources> keycloakResources();
 
+    @WithName("sharding")
+    Optional<ShardingConfig> shardingConfig();
+
+    /**
+     * ConfigMap holding the realm template used instead of the bundled realm.json.
+     */
+    @WithName("keycloak-realm.template")
+    Optional<RealmTemplateConfig> realmTemplateConfig();
+
     interface KeycloakSubscriptionConfig {
         @WithName("namespace")
         String namespace();
@@ -53,4 +72,32 @@ public interface TrustifyConfig {
         @WithName("limits.cpu")
         Optional<String> limitCPU();
     }
+
+    interface ShardingConfig {
+        @WithName("shards")
+        int shards();
+
+        /**
+         * Defaults to the ordinal of the pod name.
+         */
+        @WithName("shard-index")
+        Optional<Integer> shardIndex();
+    }
+
+    interface RealmTemplateConfig {
+        @WithName("config-map")
+        String configMap();
+
+        /**
+         * Defaults to the namespace of the operator.
+         */
+        @WithName("namespace")
+        Optional<String> namespace();
+
+        /**
+         * Defaults to realm.json.
+         */
+        @WithName("key")
+        Optional<String> key();
+    }
 }
@@ -15,6 +15,9 @@ public interface TrustifyImagesConfig {
     @WithName("db")
     String dbImage();
 
+    @WithName("db-pooler")
+    String dbPoolerImage();
+
     @WithName("keycloak")
     String keycloak();
 
@@ -0,0 +1,73 @@
+package org.trustify.operator;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.Operator;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.reconciler.Reconciler;
+import io.quarkiverse.operatorsdk.runtime.CRDGenerationInfo;
+import io.quarkiverse.operatorsdk.runtime.CRDUtils;
+import io.quarkiverse.operatorsdk.runtime.QuarkusConfigurationService;
+import jakarta.enterprise.inject.Instance;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.jboss.logging.Logger;
+import org.trustify.operator.controllers.ShardFilter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replaces the default Operator produced by the Quarkus extension so the reconciler and the dependent resource
+ * workflow can run on virtual threads. Apart from that it does the same as the default producer.
+ */
+public class TrustifyOperatorProducer {
+
+    private static final Logger logger = Logger.getLogger(TrustifyOperatorProducer.class);
+
+    @Produces
+    @Singleton
+    Operator operator(QuarkusConfigurationService configurationService, Instance<Reconciler<? extends HasMetadata>> reconcilers, TrustifyConfig trustifyConfig) {
+        ShardFilter.getShard(trustifyConfig).ifPresent(shard ->
+                logger.infof("Handling the namespaces of shard %s of %s", shard.index(), shard.shards())
+        );
+
+        CRDGenerationInfo crdInfo = configurationService.getCRDGenerationInfo();
+        if (crdInfo.isApplyCRDs()) {
+            for (String crdName : crdInfo.getGenerated()) {
+                CRDUtils.applyCRD(configurationService.getKubernetesClient(), crdInfo, crdName);
+            }
+        }
+
+        if (trustifyConfig.virtualThreads()) {
+            logger.infof("Using virtual threads: %s reconciliation threads, %s workflow threads",
+                    configurationService.concurrentReconciliationThreads(),
+                    configurationService.concurrentWorkflowExecutorThreads()
+            );
+
+            // The executors are created once, when the manager is started. Starting it now makes the Operator
+            // reuse these executors instead of creating its platform thread pools.
+            ConfigurationService virtualThreadsConfigurationService = ConfigurationService.newOverriddenConfigurationService(configurationService, overrider -> overrider
+                    .withExecutorService(newVirtualThreadPool("reconciler-", configurationService.concurrentReconciliationThreads()))
+                    .withWorkflowExecutorService(newVirtualThreadPool("workflow-", configurationService.concurrentWorkflowExecutorThreads()))
+            );
+            configurationService.getExecutorServiceManager().start(virtualThreadsConfigurationService);
+        }
+
+        Operator operator = new Operator(configurationService);
+        for (Reconciler<? extends HasMetadata> reconciler : reconcilers) {
+            operator.register(reconciler);
+        }
+        return operator;
+    }
+
+    /**
+     * Virtual threads make blocking Kubernetes API calls cheap, while the pool size still bounds how many run at once.
+     */
+    private static ExecutorService newVirtualThreadPool(String namePrefix, int threads) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                Thread.ofVirtual().name(namePrefix, 0).factory()
+        );
+    }
+}
@@ -4,7 +4,9 @@ import io.fabric8.kubernetes.api.model.*;
 import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecret;
 import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.service.DBPoolerService;
 import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStoragePersistentVolumeClaim;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.utils.OptionMapper;
 
@@ -12,10 +14,19 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 public class TrustifyConfiguration {
 
     protected void configureDatabase(ResourceConfigurator.Config config, Trustify cr) {
+        config.allEnvVars().addAll(getDatabaseEnvVars(cr, ServerUtils.isDBPoolerEnabled(cr)));
+        config.allEnvVars().addAll(getDatabasePoolEnvVars(cr));
+    }
+
+    /**
+     * @param pooled whether to connect through the pooler. Its clients do not use TLS.
+     */
+    public static List<EnvVar> getDatabaseEnvVars(Trustify cr, boolean pooled) {
         List<EnvVar> envVars = Optional.ofNullable(cr.getSpec().databaseSpec())
                 .flatMap(databaseSpec -> {
                     if (databaseSpec.externalDatabase()) {
@@ -23,11 +34,9 @@ public class TrustifyConfiguration {
                                 .mapOption("TRUSTD_DB_USER", TrustifySpec.ExternalDatabaseSpec::usernameSecret)
                                 .mapOption("TRUSTD_DB_PASSWORD", TrustifySpec.ExternalDatabaseSpec::passwordSecret)
                                 .mapOption("TRUSTD_DB_NAME", TrustifySpec.ExternalDatabaseSpec::name)
-                                .mapOption("TRUSTD_DB_HOST", TrustifySpec.ExternalDatabaseSpec::host)
-                                .mapOption("TRUSTD_DB_PORT", TrustifySpec.ExternalDatabaseSpec::port)
-                                .mapOption("TRUSTD_DB_MIN_CONN", TrustifySpec.ExternalDatabaseSpec::poolMinSize)
-                                .mapOption("TRUSTD_DB_MAX_CONN", TrustifySpec.ExternalDatabaseSpec::poolMaxSize)
-                                .mapOption("TRUSTD_DB_SSLMODE", TrustifySpec.ExternalDatabaseSpec::sslMode)
+                                .mapOption("TRUSTD_DB_HOST", spec -> pooled ? DBPoolerService.getServiceHost(cr) : spec.host())
+                                .mapOption("TRUSTD_DB_PORT", spec -> pooled ? DBPoolerService.getServicePort(cr) : spec.port())
+                                .mapOption("TRUSTD_DB_SSLMODE", spec -> pooled ? null : spec.sslMode())
                                 .getEnvVars();
                         return Optional.of(envs);
                     } else {
@@ -38,19 +47,43 @@ public class TrustifyConfiguration {
                         .mapOption("TRUSTD_DB_USER", spec -> DBSecret.getUsernameSecretKeySelector(cr))
                         .mapOption("TRUSTD_DB_PASSWORD", spec -> DBSecret.getPasswordSecretKeySelector(cr))
                         .mapOption("TRUSTD_DB_NAME", spec -> DBDeployment.getDatabaseName(cr))
-                        .mapOption("TRUSTD_DB_HOST", spec -> DBService.getServiceHost(cr))
-                        .mapOption("TRUSTD_DB_PORT", spec -> DBDeployment.getDatabasePort(cr))
+                        .mapOption("TRUSTD_DB_HOST", spec -> pooled ? DBPoolerService.getServiceHost(cr) : DBService.getServiceHost(cr))
+                        .mapOption("TRUSTD_DB_PORT", spec -> pooled ? DBPoolerService.getServicePort(cr) : DBDeployment.getDatabasePort(cr))
                         .getEnvVars()
                 );
 
-        config.allEnvVars().addAll(envVars);
+        return envVars;
     }
 
-    protected void configureStorage(ResourceConfigurator.Config config, Trustify cr) {
+    /**
+     * Auto sized pools follow the number of instances, so a change of them rolls the pods out.
+     */
+    public static List<EnvVar> getDatabasePoolEnvVars(Trustify cr) {
+        if (ServerUtils.isDBPoolAutoSized(cr)) {
+            return new OptionMapper<>(cr.getSpec())
+                    .mapOption("TRUSTD_DB_MIN_CONN", spec -> ServerUtils.getDBPoolMinSize(cr))
+                    .mapOption("TRUSTD_DB_MAX_CONN", spec -> ServerUtils.getDBPoolMaxSize(cr))
+                    .getEnvVars();
+        }
+
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .filter(TrustifySpec.DatabaseSpec::externalDatabase)
+                .map(databaseSpec -> new OptionMapper<>(databaseSpec.externalDatabaseSpec())
+                        .mapOption("TRUSTD_DB_MIN_CONN", TrustifySpec.ExternalDatabaseSpec::poolMinSize)
+                        .mapOption("TRUSTD_DB_MAX_CONN", TrustifySpec.ExternalDatabaseSpec::poolMaxSize)
+                        .getEnvVars()
+                )
+                .orElseGet(ArrayList::new);
+    }
+
+    /**
+     * @param componentCompression compression settings of the component, they take precedence over the storage ones
+     */
+    protected void configureStorage(ResourceConfigurator.Config config, Trustify cr, Function<TrustifySpec.StorageSpec, TrustifySpec.StorageCompressionSpec> componentCompression) {
         List<EnvVar> envVars = new ArrayList<>();
 
         TrustifySpec.StorageSpec storageSpec = Optional.ofNullable(cr.getSpec().storageSpec())
-                .orElse(new TrustifySpec.StorageSpec(null, null, null, null));
+                .orElse(new TrustifySpec.StorageSpec(null, null, null, null, null, null, null, null, null));
 
         // Storage type
         TrustifySpec.StorageStrategyType storageStrategyType = Objects.nonNull(storageSpec.type()) ? storageSpec.type() : TrustifySpec.StorageStrategyType.FILESYSTEM;
@@ -61,10 +94,21 @@ public class TrustifyConfiguration {
         );
 
         // Other config
-        envVars.addAll(new OptionMapper<>(storageSpec)
-                .mapOption("TRUSTD_STORAGE_COMPRESSION", spec -> Objects.nonNull(spec.compression()) ? spec.compression().getValue() : null)
+        TrustifySpec.StorageCompressionSpec compressionSpec = Optional.ofNullable(componentCompression.apply(storageSpec))
+                .orElse(new TrustifySpec.StorageCompressionSpec(null, null, null));
+        TrustifySpec.StorageCompressionType compression = Optional.ofNullable(compressionSpec.compression())
+                .orElse(storageSpec.compression());
+        envVars.addAll(new OptionMapper<>(compressionSpec)
+                .mapOption("TRUSTD_STORAGE_COMPRESSION", spec -> Objects.nonNull(compression) ? compression.getValue() : null)
                 .getEnvVars()
         );
+        if (!Objects.equals(compression, TrustifySpec.StorageCompressionType.NONE)) {
+            envVars.addAll(new OptionMapper<>(compressionSpec)
+                    .mapOption("TRUSTD_STORAGE_COMPRESSION_LEVEL", spec -> Optional.ofNullable(spec.level()).orElse(storageSpec.compressionLevel()))
+                    .mapOption("TRUSTD_STORAGE_COMPRESSION_LONG_WINDOW", spec -> Optional.ofNullable(spec.longWindow()).orElse(storageSpec.compressionLongWindow()))
+                    .getEnvVars()
+            );
+        }
 
         switch (storageStrategyType) {
             case FILESYSTEM -> {
@@ -94,8 +138,14 @@ public class TrustifyConfiguration {
                 envVars.addAll(new OptionMapper<>(storageSpec.s3StorageSpec())
                         .mapOption("TRUSTD_S3_BUCKET", TrustifySpec.S3StorageSpec::bucket)
                         .mapOption("TRUSTD_S3_REGION", TrustifySpec.S3StorageSpec::region)
-                        .mapOption("TRUSTD_S3_ACCESS_KEY", TrustifySpec.S3StorageSpec::accessKey)
-                        .mapOption("TRUSTD_S3_SECRET_KEY", TrustifySpec.S3StorageSpec::secretKey)
+                        .mapOption("TRUSTD_S3_ACCESS_KEY", spec -> Objects.nonNull(spec.accessKeySecret()) ? spec.accessKeySecret() : spec.accessKey())
+                        .mapOption("TRUSTD_S3_SECRET_KEY", spec -> Objects.nonNull(spec.secretKeySecret()) ? spec.secretKeySecret() : spec.secretKey())
+                        .mapOption("TRUSTD_S3_ENDPOINT", TrustifySpec.S3StorageSpec::endpoint)
+                        .mapOption("TRUSTD_S3_PATH_STYLE", TrustifySpec.S3StorageSpec::pathStyle)
+                        .mapOption("TRUSTD_S3_MULTIPART_PART_SIZE", spec -> Objects.nonNull(spec.multipartPartSize()) ? Quantity.getAmountInBytes(new Quantity(spec.multipartPartSize())).toBigInteger() : null)
+                        .mapOption("TRUSTD_S3_UPLOAD_CONCURRENCY", TrustifySpec.S3StorageSpec::uploadConcurrency)
+                        .mapOption("TRUSTD_S3_DOWNLOAD_CONCURRENCY", TrustifySpec.S3StorageSpec::downloadConcurrency)
+                        .mapOption("TRUSTD_S3_REQUEST_TIMEOUT", spec -> Objects.nonNull(spec.requestTimeoutSeconds()) ? spec.requestTimeoutSeconds() + "s" : null)
                         .getEnvVars()
                 );
             }
@@ -0,0 +1,80 @@
+package org.trustify.operator.cdrs.v2alpha1;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+/**
+ * How the connections of the database are shared when the pools are auto sized.
+ * Every Server and Importer pod gets a pool of poolMaxSize connections.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrustifyDatabaseConnectionsStatus {
+    private Integer maxConnections;
+    private Integer reservedConnections;
+    private Integer serverInstances;
+    private Integer importerInstances;
+    private Integer poolMinSize;
+    private Integer poolMaxSize;
+
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(Integer maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public Integer getReservedConnections() {
+        return reservedConnections;
+    }
+
+    public void setReservedConnections(Integer reservedConnections) {
+        this.reservedConnections = reservedConnections;
+    }
+
+    public Integer getServerInstances() {
+        return serverInstances;
+    }
+
+    public void setServerInstances(Integer serverInstances) {
+        this.serverInstances = serverInstances;
+    }
+
+    public Integer getImporterInstances() {
+        return importerInstances;
+    }
+
+    public void setImporterInstances(Integer importerInstances) {
+        this.importerInstances = importerInstances;
+    }
+
+    public Integer getPoolMinSize() {
+        return poolMinSize;
+    }
+
+    public void setPoolMinSize(Integer poolMinSize) {
+        this.poolMinSize = poolMinSize;
+    }
+
+    public Integer getPoolMaxSize() {
+        return poolMaxSize;
+    }
+
+    public void setPoolMaxSize(Integer poolMaxSize) {
+        this.poolMaxSize = poolMaxSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TrustifyDatabaseConnectionsStatus that = (TrustifyDatabaseConnectionsStatus) o;
+        return Objects.equals(getMaxConnections(), that.getMaxConnections()) && Objects.equals(getReservedConnections(), that.getReservedConnections()) && Objects.equals(getServerInstances(), that.getServerInstances()) && Objects.equals(getImporterInstances(), that.getImporterInstances()) && Objects.equals(getPoolMinSize(), that.getPoolMinSize()) && Objects.equals(getPoolMaxSize(), that.getPoolMaxSize());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getMaxConnections(), getReservedConnections(), getServerInstances(), getImporterInstances(), getPoolMinSize(), getPoolMaxSize());
+    }
+}
@@ -0,0 +1,62 @@
+package org.trustify.operator.cdrs.v2alpha1;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+/**
+ * Readiness of the importer pod that owns a shard. The progress of the import of the shard is not known to the
+ * operator.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrustifyImporterPodStatus {
+    private Integer shard;
+    private Integer shards;
+    private String pod;
+    private Boolean ready;
+
+    public Integer getShard() {
+        return shard;
+    }
+
+    public void setShard(Integer shard) {
+        this.shard = shard;
+    }
+
+    public Integer getShards() {
+        return shards;
+    }
+
+    public void setShards(Integer shards) {
+        this.shards = shards;
+    }
+
+    public String getPod() {
+        return pod;
+    }
+
+    public void setPod(String pod) {
+        this.pod = pod;
+    }
+
+    public Boolean getReady() {
+        return ready;
+    }
+
+    public void setReady(Boolean ready) {
+        this.ready = ready;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TrustifyImporterPodStatus that = (TrustifyImporterPodStatus) o;
+        return Objects.equals(getShard(), that.getShard()) && Objects.equals(getShards(), that.getShards()) && Objects.equals(getPod(), that.getPod()) && Objects.equals(getReady(), that.getReady());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getShard(), getShards(), getPod(), getReady());
+    }
+}
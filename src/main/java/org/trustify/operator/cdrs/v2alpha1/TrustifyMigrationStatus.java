@@ -0,0 +1,57 @@
+package org.trustify.operator.cdrs.v2alpha1;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+/**
+ * Outcome of the database migration Job of the server.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrustifyMigrationStatus {
+    public static final String PENDING = "Pending";
+    public static final String RUNNING = "Running";
+    public static final String SUCCEEDED = "Succeeded";
+    public static final String FAILED = "Failed";
+
+    private String job;
+    private String image;
+    private String phase;
+
+    public String getJob() {
+        return job;
+    }
+
+    public void setJob(String job) {
+        this.job = job;
+    }
+
+    public String getImage() {
+        return image;
+    }
+
+    public void setImage(String image) {
+        this.image = image;
+    }
+
+    public String getPhase() {
+        return phase;
+    }
+
+    public void setPhase(String phase) {
+        this.phase = phase;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TrustifyMigrationStatus that = (TrustifyMigrationStatus) o;
+        return Objects.equals(getJob(), that.getJob()) && Objects.equals(getImage(), that.getImage()) && Objects.equals(getPhase(), that.getPhase());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getJob(), getImage(), getPhase());
+    }
+}
@@ -2,8 +2,12 @@ package org.trustify.operator.cdrs.v2alpha1;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import io.fabric8.kubernetes.api.model.Affinity;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.SecretKeySelector;
+import io.fabric8.kubernetes.api.model.Toleration;
+import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.MetricSpec;
 
 import java.util.List;
 import java.util.Map;
@@ -66,7 +70,39 @@ public record TrustifySpec(
 
         @JsonProperty("importerResources")
         @JsonPropertyDescription("In this section you can configure resource limits settings for the Importer.")
-        ResourcesLimitSpec importerResourceLimitSpec
+        ResourcesLimitSpec importerResourceLimitSpec,
+
+        @JsonProperty("serverRollout")
+        @JsonPropertyDescription("In this section you can configure how new versions of the Server are rolled out.")
+        RolloutSpec serverRolloutSpec,
+
+        @JsonProperty("serverAutoscaling")
+        @JsonPropertyDescription("In this section you can configure a HorizontalPodAutoscaler for the Server. It replaces serverInstances when enabled.")
+        AutoscalingSpec serverAutoscalingSpec,
+
+        @JsonProperty("uiAutoscaling")
+        @JsonPropertyDescription("In this section you can configure a HorizontalPodAutoscaler for the UI. It replaces uiInstances when enabled.")
+        AutoscalingSpec uiAutoscalingSpec,
+
+        @JsonProperty("importerAutoscaling")
+        @JsonPropertyDescription("In this section you can configure the Importer instances to follow the ingestion backlog. It replaces importerInstances when enabled.")
+        ImporterAutoscalingSpec importerAutoscalingSpec,
+
+        @JsonProperty("importerWorkdirVolume")
+        @JsonPropertyDescription("In this section you can configure the PVC each importer uses as its working directory.")
+        StorageVolumeSpec importerWorkdirVolumeSpec,
+
+        @JsonProperty("uiScheduling")
+        @JsonPropertyDescription("In this section you can configure the nodes the UI pods run on.")
+        SchedulingSpec uiSchedulingSpec,
+
+        @JsonProperty("serverScheduling")
+        @JsonPropertyDescription("In this section you can configure the nodes the Server pods run on.")
+        SchedulingSpec serverSchedulingSpec,
+
+        @JsonProperty("importerScheduling")
+        @JsonPropertyDescription("In this section you can configure the nodes the Importer pods run on.")
+        SchedulingSpec importerSchedulingSpec
 ) {
 
     public TrustifySpec() {
@@ -87,6 +123,14 @@ public record TrustifySpec(
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
     }
@@ -124,7 +168,58 @@ public record TrustifySpec(
 
             @JsonProperty("resources")
             @JsonPropertyDescription("In this section you can configure resource limits settings. Valid only if externalDatabase=false")
-            ResourcesLimitSpec resourceLimits
+            ResourcesLimitSpec resourceLimits,
+
+            @JsonPropertyDescription("postgresql.conf parameters. They override the values the operator derives from the memory limit. Valid only for the Trustify database.")
+            Map<String, String> parameters,
+
+            @JsonProperty("volume")
+            @JsonPropertyDescription("In this section you can configure the PVC of the database. Valid only if externalDatabase=false")
+            StorageVolumeSpec volumeSpec,
+
+            @JsonProperty("walVolume")
+            @JsonPropertyDescription("In this section you can keep the write-ahead log on its own PVC. Valid only for the Trustify database.")
+            DatabaseWalVolumeSpec walVolumeSpec,
+
+            @JsonProperty("scheduling")
+            @JsonPropertyDescription("In this section you can configure the nodes the database runs on. Valid only if externalDatabase=false")
+            SchedulingSpec schedulingSpec
+    ) {
+    }
+
+    public record SchedulingSpec(
+            @JsonPropertyDescription("Labels of the nodes the pods can run on.")
+            Map<String, String> nodeSelector,
+
+            @JsonPropertyDescription("Taints of the nodes the pods tolerate.")
+            List<Toleration> tolerations,
+
+            @JsonPropertyDescription("Node affinity, and pod affinity and anti-affinity, e.g. to run the Server next to the database.")
+            Affinity affinity,
+
+            @JsonPropertyDescription("How the pods are spread across topology domains such as zones.")
+            List<TopologySpreadConstraint> topologySpreadConstraints
+    ) {
+    }
+
+    public record StorageVolumeSpec(
+            @JsonPropertyDescription("StorageClass of the PVC, e.g. one backed by local NVMe disks. Default is the default StorageClass of the cluster.")
+            String storageClassName,
+
+            @JsonPropertyDescription("Access mode of the PVC: ReadWriteOnce, ReadWriteOncePod or ReadWriteMany. Default is ReadWriteOnce.")
+            String accessMode
+    ) {
+    }
+
+    public record DatabaseWalVolumeSpec(
+            @JsonPropertyDescription("Move the write-ahead log to its own PVC. Existing databases are moved on the next restart. Once moved, the PVC stays in use even if this is disabled afterwards.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Size of the PVC to create.")
+            String pvcSize,
+
+            @JsonProperty("volume")
+            StorageVolumeSpec volumeSpec
     ) {
     }
 
@@ -136,7 +231,72 @@ public record TrustifySpec(
             ExternalDatabaseSpec externalDatabaseSpec,
 
             @JsonProperty("embedded")
-            EmbeddedDatabaseSpec embeddedDatabaseSpec
+            EmbeddedDatabaseSpec embeddedDatabaseSpec,
+
+            @JsonProperty("pooler")
+            @JsonPropertyDescription("In this section you can configure a connection pooler between the Server, the Importer and the database.")
+            DatabasePoolerSpec poolerSpec,
+
+            @JsonProperty("readReplicas")
+            @JsonPropertyDescription("In this section you can configure the replicas serving the read-only queries of the Server.")
+            DatabaseReadReplicasSpec readReplicasSpec,
+
+            @JsonProperty("poolSizing")
+            @JsonPropertyDescription("In this section you can let the operator size the connection pools of the Server and the Importer.")
+            DatabasePoolSizingSpec poolSizingSpec
+    ) {
+    }
+
+    public record DatabasePoolSizingSpec(
+            @JsonPropertyDescription("Share max_connections between the Server and Importer pods, keeping the reserved connections apart. Replaces poolMinSize and poolMaxSize.")
+            boolean auto,
+
+            @JsonPropertyDescription("max_connections of the external database. Default is 100, the PostgreSQL default. The embedded database uses its own.")
+            Integer maxConnections,
+
+            @JsonPropertyDescription("Connections kept out of the pools for migrations and administrative sessions. Default is 10.")
+            Integer reservedConnections
+    ) {
+    }
+
+    public record DatabaseReadReplicasSpec(
+            @JsonPropertyDescription("Send the read-only queries of the Server to the replicas of the external database. Requires a Server reading TRUSTD_DB_READ_HOST, see the README of the operator. Ignored for the embedded database.")
+            boolean enabled,
+
+            @JsonPropertyDescription("The hosts of the replicas of the external database. Set as TRUSTD_DB_READ_HOST.")
+            List<String> hosts,
+
+            @JsonPropertyDescription("The port of the replicas of the external database. Default is the port of the database. Set as TRUSTD_DB_READ_PORT.")
+            String port,
+
+            @JsonPropertyDescription("The minimal size of the read-only connection pool. Set as TRUSTD_DB_READ_MIN_CONN.")
+            Integer poolMinSize,
+
+            @JsonPropertyDescription("The maximum size of the read-only connection pool. Set as TRUSTD_DB_READ_MAX_CONN.")
+            Integer poolMaxSize
+    ) {
+    }
+
+    public record DatabasePoolerSpec(
+            @JsonPropertyDescription("Deploy a PgBouncer in transaction pooling mode. The Server and the Importer connect to it instead of the database.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Number of pooler instances. Default is 1.")
+            Integer instances,
+
+            @JsonPropertyDescription("Connections each pooler instance opens to the database. Derived from the number of Server and Importer instances if not set.")
+            Integer poolSize,
+
+            @JsonPropertyDescription("Client connections each pooler instance accepts. Derived from the number of Server and Importer instances if not set.")
+            Integer maxClientConnections,
+
+            @JsonProperty("resources")
+            @JsonPropertyDescription("In this section you can configure resource limits settings for the pooler.")
+            ResourcesLimitSpec resourceLimits,
+
+            @JsonProperty("scheduling")
+            @JsonPropertyDescription("In this section you can configure the nodes the pooler pods run on.")
+            SchedulingSpec schedulingSpec
     ) {
     }
 
@@ -264,18 +424,76 @@ public record TrustifySpec(
     public record StorageSpec(
             @JsonPropertyDescription("Storage compression.")
             StorageCompressionType compression,
+            @JsonPropertyDescription("zstd compression level, from 1 (fastest) to 22 (smallest). Negative levels trade ratio for even more speed. Set as TRUSTD_STORAGE_COMPRESSION_LEVEL, see the README of the operator for the Server versions reading it.")
+            Integer compressionLevel,
+            @JsonPropertyDescription("Enable zstd long distance matching, which finds repetitions across large documents at the cost of memory. Set as TRUSTD_STORAGE_COMPRESSION_LONG_WINDOW, see the README of the operator for the Server versions reading it.")
+            Boolean compressionLongWindow,
+            @JsonProperty("serverCompression")
+            @JsonPropertyDescription("Compression of the documents stored by the Server. Overrides the storage compression settings.")
+            StorageCompressionSpec serverCompressionSpec,
+            @JsonProperty("importerCompression")
+            @JsonPropertyDescription("Compression of the documents stored by the Importer. Overrides the storage compression settings.")
+            StorageCompressionSpec importerCompressionSpec,
             @JsonPropertyDescription("Storage type.")
             StorageStrategyType type,
             @JsonProperty("filesystem")
             FilesystemStorageSpec filesystemStorageSpec,
             @JsonProperty("s3")
-            S3StorageSpec s3StorageSpec
+            S3StorageSpec s3StorageSpec,
+            @JsonProperty("cache")
+            @JsonPropertyDescription("In this section you can configure a local cache of the documents read from S3.")
+            StorageCacheSpec cacheSpec
+    ) {
+    }
+
+    public record StorageCompressionSpec(
+            @JsonPropertyDescription("Storage compression.")
+            StorageCompressionType compression,
+            @JsonPropertyDescription("zstd compression level. Set as TRUSTD_STORAGE_COMPRESSION_LEVEL.")
+            Integer level,
+            @JsonPropertyDescription("Enable zstd long distance matching. Set as TRUSTD_STORAGE_COMPRESSION_LONG_WINDOW.")
+            Boolean longWindow
+    ) {
+    }
+
+    public enum StorageCacheType {
+        EMPTY_DIR("emptyDir"),
+        EPHEMERAL("ephemeral"),
+        SHARED("shared");
+        private final String value;
+
+        StorageCacheType(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public record StorageCacheSpec(
+            @JsonPropertyDescription("Keep the documents read from S3 on a local volume of the Server. Valid only if type=s3. Requires a Server reading TRUSTD_STORAGE_CACHE_PATH, see the README of the operator.")
+            boolean enabled,
+            @JsonPropertyDescription("emptyDir and ephemeral volumes belong to each Server pod, a shared volume is a ReadWriteMany PVC used by all of them. Default is emptyDir.")
+            StorageCacheType type,
+            @JsonPropertyDescription("Size of the volume. Default is 1Gi. 90% of it is set as TRUSTD_STORAGE_CACHE_MAX_SIZE.")
+            String size,
+            @JsonPropertyDescription("Storage class of the ephemeral and shared volumes.")
+            String storageClassName,
+            @JsonPropertyDescription("Documents larger than this are not cached, e.g. 50Mi. Set as TRUSTD_STORAGE_CACHE_MAX_OBJECT_SIZE.")
+            String maxObjectSize,
+            @JsonPropertyDescription("Seconds after which a cached document is evicted. Set as TRUSTD_STORAGE_CACHE_TTL.")
+            Integer ttlSeconds
     ) {
     }
 
     public record FilesystemStorageSpec(
             @JsonPropertyDescription("Size of the PVC to create.")
-            String pvcSize
+            String pvcSize,
+
+            @JsonProperty("volume")
+            @JsonPropertyDescription("In this section you can configure the PVC.")
+            StorageVolumeSpec volumeSpec
     ) {
     }
 
@@ -284,10 +502,103 @@ public record TrustifySpec(
             String region,
             @JsonPropertyDescription("Bucket name.")
             String bucket,
-            @JsonPropertyDescription("Access key.")
+            @JsonPropertyDescription("Access key. Prefer accessKeySecret.")
             String accessKey,
-            @JsonPropertyDescription("Secret key.")
-            String secretKey
+            @JsonPropertyDescription("Secret key. Prefer secretKeySecret.")
+            String secretKey,
+            @JsonPropertyDescription("The reference to a secret holding the access key. Takes precedence over accessKey.")
+            SecretKeySelector accessKeySecret,
+            @JsonPropertyDescription("The reference to a secret holding the secret key. Takes precedence over secretKey.")
+            SecretKeySelector secretKeySecret,
+            @JsonPropertyDescription("Endpoint of an S3 compatible store, e.g. MinIO or Ceph.")
+            String endpoint,
+            @JsonPropertyDescription("Address the bucket in the path instead of the hostname. Required by most S3 compatible stores.")
+            Boolean pathStyle,
+            @JsonPropertyDescription("Size of the parts of multipart uploads, e.g. 16Mi. S3 requires at least 5Mi.")
+            String multipartPartSize,
+            @JsonPropertyDescription("Number of parts uploaded in parallel.")
+            Integer uploadConcurrency,
+            @JsonPropertyDescription("Number of ranges downloaded in parallel.")
+            Integer downloadConcurrency,
+            @JsonPropertyDescription("Timeout of each request to the store, in seconds.")
+            Integer requestTimeoutSeconds
+    ) {
+    }
+
+    public enum RolloutStrategyType {
+        RECREATE("Recreate"),
+        ROLLING_UPDATE("RollingUpdate");
+        private final String value;
+
+        RolloutStrategyType(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public record RolloutSpec(
+            @JsonPropertyDescription("Rollout strategy. Default is ROLLING_UPDATE, or RECREATE when the Server stores its files in a PVC.")
+            RolloutStrategyType type,
+
+            @JsonPropertyDescription("Number or percentage of pods created above the desired instances during a rolling update. Default is 1.")
+            String maxSurge,
+
+            @JsonPropertyDescription("Number or percentage of pods that can be unavailable during a rolling update. Default is 0.")
+            String maxUnavailable
+    ) {
+    }
+
+    public record AutoscalingSpec(
+            @JsonPropertyDescription("Create a HorizontalPodAutoscaler. The number of instances is then managed by it.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Minimum number of instances. Default is 1.")
+            Integer minReplicas,
+
+            @JsonPropertyDescription("Maximum number of instances. Default is 3.")
+            Integer maxReplicas,
+
+            @JsonPropertyDescription("Target average CPU utilization, as a percentage of the requested CPU. Default is 80.")
+            Integer targetCPUUtilization,
+
+            @JsonPropertyDescription("Target average memory utilization, as a percentage of the requested memory.")
+            Integer targetMemoryUtilization,
+
+            @JsonPropertyDescription("Additional metrics, e.g. Pods or External metrics served by a custom metrics adapter.")
+            List<MetricSpec> metrics
+    ) {
+    }
+
+    public record ImporterAutoscalingSpec(
+            @JsonPropertyDescription("Scale the Importer instances based on the backlog.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Minimum number of instances. Default is 0, the importers are stopped while there is no backlog.")
+            Integer minReplicas,
+
+            @JsonPropertyDescription("Maximum number of instances. Default is 3.")
+            Integer maxReplicas,
+
+            @JsonPropertyDescription("Name of the backlog metric read from the Server infrastructure endpoint (/metrics). Ignored if prometheusQuery is set.")
+            String metric,
+
+            @JsonPropertyDescription("URL of the Prometheus server that evaluates prometheusQuery.")
+            String prometheusUrl,
+
+            @JsonPropertyDescription("PromQL query returning the backlog as a single value.")
+            String prometheusQuery,
+
+            @JsonPropertyDescription("Backlog handled by a single instance. Default is 10.")
+            Integer targetBacklog,
+
+            @JsonPropertyDescription("Seconds between two reads of the backlog. Default is 30.")
+            Integer pollingInterval,
+
+            @JsonPropertyDescription("Seconds a lower number of instances has to be recommended before scaling down. Default is 300.")
+            Integer cooldownPeriod
     ) {
     }
 
@@ -9,6 +9,10 @@ import java.util.stream.Collectors;
 
 public class TrustifyStatus {
     private List<TrustifyStatusCondition> conditions;
+    private TrustifyMigrationStatus migration;
+    private List<TrustifyImporterPodStatus> importerPods;
+    private TrustifyDatabaseConnectionsStatus databaseConnections;
+    private List<TrustifyVolumeStatus> volumes;
 
     public TrustifyStatus() {
         conditions = new ArrayList<>();
@@ -22,6 +26,38 @@ public class TrustifyStatus {
         this.conditions = conditions;
     }
 
+    public TrustifyMigrationStatus getMigration() {
+        return migration;
+    }
+
+    public void setMigration(TrustifyMigrationStatus migration) {
+        this.migration = migration;
+    }
+
+    public List<TrustifyImporterPodStatus> getImporterPods() {
+        return importerPods;
+    }
+
+    public void setImporterPods(List<TrustifyImporterPodStatus> importerPods) {
+        this.importerPods = importerPods;
+    }
+
+    public TrustifyDatabaseConnectionsStatus getDatabaseConnections() {
+        return databaseConnections;
+    }
+
+    public void setDatabaseConnections(TrustifyDatabaseConnectionsStatus databaseConnections) {
+        this.databaseConnections = databaseConnections;
+    }
+
+    public List<TrustifyVolumeStatus> getVolumes() {
+        return volumes;
+    }
+
+    public void setVolumes(List<TrustifyVolumeStatus> volumes) {
+        this.volumes = volumes;
+    }
+
     @JsonIgnore
     public void setCondition(TrustifyStatusCondition condition) {
         List<TrustifyStatusCondition> conditions = this.conditions.stream()
@@ -42,11 +78,11 @@ public class TrustifyStatus {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TrustifyStatus status = (TrustifyStatus) o;
-        return Objects.equals(getConditions(), status.getConditions());
+        return Objects.equals(getConditions(), status.getConditions()) && Objects.equals(getMigration(), status.getMigration()) && Objects.equals(getImporterPods(), status.getImporterPods()) && Objects.equals(getDatabaseConnections(), status.getDatabaseConnections()) && Objects.equals(getVolumes(), status.getVolumes());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getConditions());
+        return Objects.hash(getConditions(), getMigration(), getImporterPods(), getDatabaseConnections(), getVolumes());
     }
 }
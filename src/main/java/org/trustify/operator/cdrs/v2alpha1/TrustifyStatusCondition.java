@@ -10,6 +10,9 @@ public class TrustifyStatusCondition {
     public static final String SUCCESSFUL = "Successful";
     public static final String PROCESSING = "Processing";
     public static final String DEGRADED = "Degraded";
+    public static final String RESIZING = "Resizing";
+    public static final String INVALID_DATABASE_PARAMETERS = "InvalidDatabaseParameters";
+    public static final String VOLUME_EXPANSION_UNSUPPORTED = "VolumeExpansionUnsupported";
 
     public enum Status {
         True,
@@ -0,0 +1,61 @@
+package org.trustify.operator.cdrs.v2alpha1;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Objects;
+
+/**
+ * Size of a PVC of the instance. resizeStatus holds the condition of the claim while it is being expanded.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TrustifyVolumeStatus {
+    private String name;
+    private String requested;
+    private String capacity;
+    private String resizeStatus;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRequested() {
+        return requested;
+    }
+
+    public void setRequested(String requested) {
+        this.requested = requested;
+    }
+
+    public String getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(String capacity) {
+        this.capacity = capacity;
+    }
+
+    public String getResizeStatus() {
+        return resizeStatus;
+    }
+
+    public void setResizeStatus(String resizeStatus) {
+        this.resizeStatus = resizeStatus;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TrustifyVolumeStatus that = (TrustifyVolumeStatus) o;
+        return Objects.equals(getName(), that.getName()) && Objects.equals(getRequested(), that.getRequested()) && Objects.equals(getCapacity(), that.getCapacity()) && Objects.equals(getResizeStatus(), that.getResizeStatus());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getName(), getRequested(), getCapacity(), getResizeStatus());
+    }
+}
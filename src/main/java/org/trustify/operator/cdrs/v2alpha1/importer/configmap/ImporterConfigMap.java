@@ -0,0 +1,60 @@
+package org.trustify.operator.cdrs.v2alpha1.importer.configmap;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSet;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Holds the shard count of the importers. It follows the replicas, and is kept out of the pod template so that
+ * scaling does not restart every importer. The kubelet refreshes the mounted file, the importers read it again
+ * when they repartition.
+ */
+@KubernetesDependent(labelSelector = ImporterConfigMap.LABEL_SELECTOR, resourceDiscriminator = ImporterConfigMapDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class ImporterConfigMap extends CRUDKubernetesDependentResource<ConfigMap, Trustify>
+        implements Matcher<ConfigMap, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=importer";
+
+    public static final String SHARD_COUNT_KEY = "shard-count";
+
+    public ImporterConfigMap() {
+        super(ConfigMap.class);
+    }
+
+    @Override
+    protected ConfigMap desired(Trustify cr, Context<Trustify> context) {
+        return new ConfigMapBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getConfigMapName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withData(Map.of(
+                        SHARD_COUNT_KEY, String.valueOf(ImporterStatefulSet.getDesiredInstances(cr, context))
+                ))
+                .build();
+    }
+
+    @Override
+    public Result<ConfigMap> match(ConfigMap actual, Trustify cr, Context<Trustify> context) {
+        ConfigMap desired = desired(cr, context);
+        return Result.computed(Objects.equals(desired.getData(), actual.getData()), desired);
+    }
+
+    public static String getConfigMapName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.IMPORTER_CONFIG_MAP_SUFFIX;
+    }
+}
@@ -11,26 +11,46 @@ import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyImporterPodStatus;
 import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
 import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.metrics.TrustifyMetrics;
+import org.trustify.operator.services.ImporterAutoscalerService;
+import org.trustify.operator.services.PersistentVolumeClaimService;
+import org.trustify.operator.utils.CRDUtils;
 
-import java.util.Map;
-import java.util.Optional;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
 
-@KubernetesDependent(labelSelector = ImporterStatefulSet.LABEL_SELECTOR, resourceDiscriminator = ImporterStatefulSetDiscriminator.class)
+@KubernetesDependent(labelSelector = ImporterStatefulSet.LABEL_SELECTOR, resourceDiscriminator = ImporterStatefulSetDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class ImporterStatefulSet extends CRUDKubernetesDependentResource<StatefulSet, Trustify>
         implements Matcher<StatefulSet, Trustify> {
 
     public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=importer";
 
+    /**
+     * Set by the StatefulSet controller on Kubernetes 1.28+.
+     */
+    public static final String POD_INDEX_LABEL = "apps.kubernetes.io/pod-index";
+
     @Inject
     TrustifyConfig trustifyConfig;
 
     @Inject
     ImporterStatefulSetConfigurator importerConfigurator;
 
+    @Inject
+    PersistentVolumeClaimService persistentVolumeClaimService;
+
+    @Inject
+    TrustifyMetrics metrics;
+
     public ImporterStatefulSet() {
         super(StatefulSet.class);
     }
@@ -42,22 +62,100 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
 
     @Override
     public Result<StatefulSet> match(StatefulSet actual, Trustify cr, Context<Trustify> context) {
-        boolean matchDesiredInstances = getDesiredInstances(cr) == actual.getSpec().getReplicas();
+        boolean matchDesiredInstances = getDesiredInstances(cr, context) == actual.getSpec().getReplicas();
         if (!matchDesiredInstances) {
             return Result.nonComputed(false);
         }
 
-        ResourceConfigurator.Config config = importerConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
-        return Result.nonComputed(match);
+        StatefulSet desired = desired(cr, context);
+        return Result.computed(CRDUtils.matchPodTemplateHash(desired, actual) &&
+                        matchVolumeClaimTemplates(desired, actual) &&
+                        matchClaims(desired, actual, context),
+                desired
+        );
     }
 
-    private int getDesiredInstances(Trustify cr) {
+    /**
+     * The claims are evaluated on every reconciliation, so that they are expanded once their StorageClass allows it.
+     * Claims created by previous versions of the operator are not labeled, so they are not cached until labeled
+     * by {@link PersistentVolumeClaimService#expandStatefulSetClaims}.
+     */
+    private boolean matchClaims(StatefulSet desired, StatefulSet actual, Context<Trustify> context) {
+        int createdReplicas = Optional.ofNullable(actual.getStatus())
+                .map(StatefulSetStatus::getReplicas)
+                .orElse(0);
+
+        return desired.getSpec().getVolumeClaimTemplates().stream().allMatch(template -> {
+            List<PersistentVolumeClaim> claims = persistentVolumeClaimService.getStatefulSetClaims(actual, template, context);
+            long expansionsRequired = claims.stream()
+                    .filter(pvc -> persistentVolumeClaimService.isExpansionRequired(pvc, template.getSpec()))
+                    .count();
+            return claims.size() >= createdReplicas && expansionsRequired == 0;
+        });
+    }
+
+    /**
+     * The claims are labeled and expanded first. The volumeClaimTemplates of a StatefulSet are immutable, when
+     * they change the StatefulSet is deleted without deleting its pods. Its deletion triggers the reconciliation
+     * that creates the new one, which adopts them.
+     */
+    @Override
+    public StatefulSet update(StatefulSet actual, StatefulSet desired, Trustify cr, Context<Trustify> context) {
+        // Still orphaning its pods
+        if (actual.getMetadata().getDeletionTimestamp() != null) {
+            return actual;
+        }
+
+        desired.getSpec().getVolumeClaimTemplates()
+                .forEach(template -> persistentVolumeClaimService.expandStatefulSetClaims(actual, template));
+
+        if (matchVolumeClaimTemplates(desired, actual)) {
+            return super.update(actual, desired, cr, context);
+        }
+
+        metrics.apiCall(ImporterStatefulSet.class, "delete");
+        context.getClient().resource(actual).withPropagationPolicy(DeletionPropagation.ORPHAN).delete();
+        return actual;
+    }
+
+    /**
+     * Labels are not compared, StatefulSets created before the templates were labeled would be recreated for nothing.
+     */
+    static boolean matchVolumeClaimTemplates(StatefulSet desired, StatefulSet actual) {
+        Map<String, PersistentVolumeClaim> actualTemplates = Optional.ofNullable(actual.getSpec().getVolumeClaimTemplates()).stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toMap(template -> template.getMetadata().getName(), template -> template));
+
+        return desired.getSpec().getVolumeClaimTemplates().stream().allMatch(template -> {
+            PersistentVolumeClaim actualTemplate = actualTemplates.get(template.getMetadata().getName());
+            if (actualTemplate == null) {
+                return false;
+            }
+
+            BigDecimal size = PersistentVolumeClaimService.getStorageRequest(template.getSpec());
+            BigDecimal actualSize = PersistentVolumeClaimService.getStorageRequest(actualTemplate.getSpec());
+            boolean matchStorageClass = template.getSpec().getStorageClassName() == null ||
+                    Objects.equals(template.getSpec().getStorageClassName(), actualTemplate.getSpec().getStorageClassName());
+            return actualSize != null && size.compareTo(actualSize) == 0 &&
+                    matchStorageClass &&
+                    Objects.equals(template.getSpec().getAccessModes(), actualTemplate.getSpec().getAccessModes());
+        });
+    }
+
+    public static int getDesiredInstances(Trustify cr, Context<Trustify> context) {
+        if (ImporterAutoscalerService.isEnabled(cr)) {
+            return context.managedDependentResourceContext()
+                    .getMandatory(Constants.CONTEXT_IMPORTER_AUTOSCALER_SERVICE_KEY, ImporterAutoscalerService.class)
+                    .getDesiredReplicas(cr, context);
+        }
+
         return Optional.ofNullable(cr.getSpec().importerInstances())
                 .orElse(1);
     }
 
     private StatefulSet newStatefulSet(Trustify cr, Context<Trustify> context) {
+        StatefulSetSpec statefulSetSpec = getStatefulSetSpec(cr, context);
+
         return new StatefulSetBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getStatefulSetName(cr), LABEL_SELECTOR, cr))
@@ -65,14 +163,15 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
                                 [{"apiVersion": "apps/v1", "kind":"StatefulSet", "name": "%s"}]
                                 """.formatted(DBDeployment.getDeploymentName(cr))
                         ))
+                        .addToAnnotations(Constants.POD_TEMPLATE_HASH_ANNOTATION, CRDUtils.getPodTemplateHash(statefulSetSpec.getTemplate()))
                         .build()
                 )
-                .withSpec(getStatefulSetSpec(cr, context))
+                .withSpec(statefulSetSpec)
                 .build();
     }
 
     private StatefulSetSpec getStatefulSetSpec(Trustify cr, Context<Trustify> context) {
-        ServerDeploymentConfigurator.Config config = importerConfigurator.configureDeployment(cr, context);
+        ServerDeploymentConfigurator.Config config = importerConfigurator.getConfig(cr, context);
 
         String pvcStorageSize = Optional.ofNullable(cr.getSpec().importerWorkdirPvcSize())
                 .orElse(trustifyConfig.defaultPvcSize());
@@ -89,7 +188,7 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
                         .withType("RollingUpdate")
                         .build()
                 )
-                .withReplicas(getDesiredInstances(cr))
+                .withReplicas(getDesiredInstances(cr, context))
                 .withSelector(new LabelSelectorBuilder()
                         .withMatchLabels(getPodSelectorLabels(cr))
                         .build()
@@ -97,26 +196,25 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
                 .withVolumeClaimTemplates(new PersistentVolumeClaimBuilder()
                         .withMetadata(new ObjectMetaBuilder()
                                 .withName(persistentVolumeClaimName)
+                                .withLabels(getPodLabels(cr))
                                 .build()
                         )
-                        .withSpec(new PersistentVolumeClaimSpecBuilder()
-                                .withAccessModes("ReadWriteOnce")
-                                .withResources(new VolumeResourceRequirementsBuilder()
-                                        .withRequests(Map.of("storage", new Quantity(pvcStorageSize)))
-                                        .build()
-                                )
-                                .build()
-                        )
+                        .withSpec(CRDUtils.getPersistentVolumeClaimSpec(pvcStorageSize, cr.getSpec().importerWorkdirVolumeSpec()))
                         .build()
                 )
                 .withTemplate(new PodTemplateSpecBuilder()
                         .withNewMetadata()
                         .addToLabels(getPodSelectorLabels(cr))
+                        .addToLabels(getPodLabels(cr))
                         .endMetadata()
                         .withSpec(new PodSpecBuilder()
                                 .withRestartPolicy("Always")
                                 .withTerminationGracePeriodSeconds(70L)
                                 .withImagePullSecrets(cr.getSpec().imagePullSecrets())
+                                .withNodeSelector(config.schedulingSpec().nodeSelector())
+                                .withTolerations(config.schedulingSpec().tolerations())
+                                .withAffinity(config.schedulingSpec().affinity())
+                                .withTopologySpreadConstraints(config.schedulingSpec().topologySpreadConstraints())
                                 .withContainers(new ContainerBuilder()
                                         .withName("importer")
                                         .withImage(config.image())
@@ -198,6 +296,44 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
         return 9010;
     }
 
+    /**
+     * The pods, and the claims of their working directory, are labeled as managed so that the operator caches them
+     * and reports the readiness of each shard and the state of each volume.
+     */
+    public static Map<String, String> getPodLabels(Trustify cr) {
+        return Map.of(
+                "app.kubernetes.io/managed-by", "trustify-operator",
+                "app.kubernetes.io/part-of", cr.getMetadata().getName()
+        );
+    }
+
+    public static List<TrustifyImporterPodStatus> getPodStatus(Trustify cr, Context<Trustify> context) {
+        int shards = getDesiredInstances(cr, context);
+        String podNamePrefix = getStatefulSetName(cr) + "-";
+
+        return CRDUtils.getInformerEventSource(context, Pod.class)
+                .map(informerEventSource -> informerEventSource
+                        .list(cr.getMetadata().getNamespace(), pod -> pod.getMetadata().getName().startsWith(podNamePrefix) &&
+                                pod.getMetadata().getName().substring(podNamePrefix.length()).matches("\\d+")
+                        )
+                        .map(pod -> {
+                            TrustifyImporterPodStatus podStatus = new TrustifyImporterPodStatus();
+                            podStatus.setShard(Integer.parseInt(pod.getMetadata().getName().substring(podNamePrefix.length())));
+                            podStatus.setShards(shards);
+                            podStatus.setPod(pod.getMetadata().getName());
+                            podStatus.setReady(Optional.ofNullable(pod.getStatus())
+                                    .map(PodStatus::getConditions).stream()
+                                    .flatMap(Collection::stream)
+                                    .anyMatch(condition -> Objects.equals(condition.getType(), "Ready") && Objects.equals(condition.getStatus(), "True"))
+                            );
+                            return podStatus;
+                        })
+                        .sorted(Comparator.comparing(TrustifyImporterPodStatus::getShard))
+                        .collect(Collectors.toList())
+                )
+                .orElse(null);
+    }
+
     public static Map<String, String> getPodSelectorLabels(Trustify cr) {
         return Map.of(
                 "trustify-operator/group", "importer"
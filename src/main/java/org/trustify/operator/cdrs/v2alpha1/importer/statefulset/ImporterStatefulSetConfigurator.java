@@ -1,8 +1,11 @@
 package org.trustify.operator.cdrs.v2alpha1.importer.statefulset;
 
+import io.fabric8.kubernetes.api.model.ConfigMapVolumeSourceBuilder;
 import io.fabric8.kubernetes.api.model.EnvVarBuilder;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.VolumeBuilder;
+import io.fabric8.kubernetes.api.model.VolumeMountBuilder;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -11,6 +14,7 @@ import org.trustify.operator.TrustifyImagesConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifyConfiguration;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.importer.configmap.ImporterConfigMap;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.utils.CRDUtils;
 
@@ -21,6 +25,8 @@ import java.util.Optional;
 @ApplicationScoped
 public class ImporterStatefulSetConfigurator extends TrustifyConfiguration implements ResourceConfigurator {
 
+    public static final String SHARDING_MOUNT_PATH = "/etc/trustify/sharding";
+
     @Inject
     TrustifyConfig trustifyConfig;
 
@@ -38,23 +44,67 @@ public class ImporterStatefulSetConfigurator extends TrustifyConfiguration imple
                 .orElse(null);
         ResourceRequirements resourceRequirements = CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
 
+        TrustifySpec.SchedulingSpec schedulingSpec = Optional.ofNullable(cr.getSpec().importerSchedulingSpec())
+                .orElse(new TrustifySpec.SchedulingSpec(null, null, null, null));
+
         Config config = new Config(
                 image,
                 imagePullPolicy,
                 imagePullSecrets,
                 resourceRequirements,
+                schedulingSpec,
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>()
         );
 
         configureGeneral(config, cr);
+        configureSharding(config, cr);
         configureDatabase(config, cr);
-        configureStorage(config, cr);
+        configureStorage(config, cr, TrustifySpec.StorageSpec::importerCompressionSpec);
 
         return config;
     }
 
+    /**
+     * Each ordinal owns the shard with the same index. The shard count follows the replicas, it is read from a
+     * mounted ConfigMap so that a scale does not change the pod template and restart every importer.
+     * The contract with the importer is documented in the README.
+     */
+    private void configureSharding(Config config, Trustify cr) {
+        var shardingVolume = new VolumeBuilder()
+                .withName("sharding")
+                .withConfigMap(new ConfigMapVolumeSourceBuilder()
+                        .withName(ImporterConfigMap.getConfigMapName(cr))
+                        .withDefaultMode(420)
+                        .build()
+                )
+                .build();
+        // No subPath, the kubelet only refreshes files of volumes mounted as a whole
+        var shardingVolumeMount = new VolumeMountBuilder()
+                .withName(shardingVolume.getName())
+                .withMountPath(SHARDING_MOUNT_PATH)
+                .withReadOnly(true)
+                .build();
+        config.allVolumes().add(shardingVolume);
+        config.allVolumeMounts().add(shardingVolumeMount);
+
+        config.allEnvVars().add(new EnvVarBuilder()
+                .withName("IMPORTER_SHARD_COUNT_FILE")
+                .withValue(SHARDING_MOUNT_PATH + "/" + ImporterConfigMap.SHARD_COUNT_KEY)
+                .build()
+        );
+        config.allEnvVars().add(new EnvVarBuilder()
+                .withName("IMPORTER_SHARD_INDEX")
+                .withNewValueFrom()
+                .withNewFieldRef()
+                .withFieldPath("metadata.labels['" + ImporterStatefulSet.POD_INDEX_LABEL + "']")
+                .endFieldRef()
+                .endValueFrom()
+                .build()
+        );
+    }
+
     private void configureGeneral(Config config, Trustify cr) {
         config.allEnvVars().add(new EnvVarBuilder()
                 .withName("RUST_LOG")
@@ -10,6 +10,11 @@ public class ImporterStatefulSetReadyPostCondition implements Condition<Stateful
 
     @Override
     public boolean isMet(DependentResource<StatefulSet, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
+        // Scaled to zero while there is no backlog
+        if (ImporterStatefulSet.getDesiredInstances(cr, context) == 0) {
+            return true;
+        }
+
         return context.getSecondaryResource(StatefulSet.class, new ImporterStatefulSetDiscriminator())
                 .map(deployment -> {
                     final var status = deployment.getStatus();
@@ -9,12 +9,15 @@ import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 import org.trustify.operator.cdrs.v2alpha1.ui.service.UIService;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
 import org.trustify.operator.services.ClusterService;
 
 import java.util.*;
 
-@KubernetesDependent(labelSelector = AppIngress.LABEL_SELECTOR, resourceDiscriminator = AppIngressDiscriminator.class)
+@KubernetesDependent(labelSelector = AppIngress.LABEL_SELECTOR, resourceDiscriminator = AppIngressDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class AppIngress extends CRUDKubernetesDependentResource<Ingress, Trustify> {
 
     public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=ui,component-variant=https";
@@ -10,12 +10,16 @@ import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.utils.CRDUtils;
 import org.trustify.operator.services.KeycloakServerService;
 
 import java.util.Map;
 
-@KubernetesDependent(labelSelector = KeycloakDBDeployment.LABEL_SELECTOR, resourceDiscriminator = KeycloakDBDeploymentDiscriminator.class)
+@KubernetesDependent(labelSelector = KeycloakDBDeployment.LABEL_SELECTOR, resourceDiscriminator = KeycloakDBDeploymentDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deployment, Trustify> {
 
     public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=keycloak";
@@ -34,12 +38,13 @@ public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deploy
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = keycloakDBDeploymentConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
-        return Result.nonComputed(match);
+        Deployment desired = desired(cr, context);
+        return Result.computed(CRDUtils.matchPodTemplateHash(desired, actual), desired);
     }
 
     private Deployment newDeployment(Trustify cr, Context<Trustify> context) {
+        DeploymentSpec deploymentSpec = getDeploymentSpec(cr, context);
+
         return new DeploymentBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getDeploymentName(cr), LABEL_SELECTOR, cr))
@@ -48,14 +53,15 @@ public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deploy
                                 [{"apiVersion": "apps/v1", "kind":"StatefulSet", "name": "%s"}]
                                 """.formatted(KeycloakServerService.getKeycloakName(cr))
                         ))
+                        .addToAnnotations(Constants.POD_TEMPLATE_HASH_ANNOTATION, CRDUtils.getPodTemplateHash(deploymentSpec.getTemplate()))
                         .build()
                 )
-                .withSpec(getDeploymentSpec(cr, context))
+                .withSpec(deploymentSpec)
                 .build();
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = keycloakDBDeploymentConfigurator.configureDeployment(cr, context);
+        ResourceConfigurator.Config config = keycloakDBDeploymentConfigurator.getConfig(cr, context);
 
         return new DeploymentSpecBuilder()
                 .withStrategy(new DeploymentStrategyBuilder()
@@ -75,6 +81,10 @@ public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deploy
                                 .withRestartPolicy("Always")
                                 .withTerminationGracePeriodSeconds(60L)
                                 .withImagePullSecrets(config.imagePullSecrets())
+                                .withNodeSelector(config.schedulingSpec().nodeSelector())
+                                .withTolerations(config.schedulingSpec().tolerations())
+                                .withAffinity(config.schedulingSpec().affinity())
+                                .withTopologySpreadConstraints(config.schedulingSpec().topologySpreadConstraints())
                                 .withContainers(new ContainerBuilder()
                                         .withName("database")
                                         .withImage(config.image())
@@ -43,11 +43,15 @@ public class KeycloakDBDeploymentConfigurator implements ResourceConfigurator {
                 .orElse(null);
         ResourceRequirements resourceRequirements = CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
 
+        TrustifySpec.SchedulingSpec schedulingSpec = CRDUtils.getValueFromSubSpec(databaseSpec, TrustifySpec.EmbeddedDatabaseSpec::schedulingSpec)
+                .orElse(new TrustifySpec.SchedulingSpec(null, null, null, null));
+
         Config config = new Config(
                 image,
                 imagePullPolicy,
                 imagePullSecrets,
                 resourceRequirements,
+                schedulingSpec,
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>()
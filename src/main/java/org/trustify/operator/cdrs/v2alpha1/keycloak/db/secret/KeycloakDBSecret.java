@@ -10,10 +10,13 @@ import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDep
 import jakarta.enterprise.context.ApplicationScoped;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
 import org.trustify.operator.utils.CRDUtils;
 
-@KubernetesDependent(labelSelector = KeycloakDBSecret.LABEL_SELECTOR, resourceDiscriminator = KeycloakDBSecretDiscriminator.class)
+@KubernetesDependent(labelSelector = KeycloakDBSecret.LABEL_SELECTOR, resourceDiscriminator = KeycloakDBSecretDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class KeycloakDBSecret extends CRUDKubernetesDependentResource<Secret, Trustify> implements Creator<Secret, Trustify> {
 
     public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=keycloak";
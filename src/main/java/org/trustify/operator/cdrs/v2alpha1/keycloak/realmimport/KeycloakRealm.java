@@ -0,0 +1,53 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.realmimport;
+
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Creator;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
+import io.javaoperatorsdk.operator.processing.event.source.informer.Mappers;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.services.KeycloakRealmService;
+import org.trustify.operator.utils.TrimmedItemStore;
+
+import java.util.Set;
+
+@KubernetesDependent(resourceDiscriminator = KeycloakRealmDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class KeycloakRealm extends KubernetesDependentResource<KeycloakRealmImport, Trustify>
+        implements Creator<KeycloakRealmImport, Trustify>, SecondaryToPrimaryMapper<KeycloakRealmImport> {
+
+    private final SecondaryToPrimaryMapper<KeycloakRealmImport> ownerMapper = Mappers.fromOwnerType(Trustify.class);
+
+    @Inject
+    KeycloakRealmService keycloakRealmService;
+
+    public KeycloakRealm() {
+        super(KeycloakRealmImport.class);
+    }
+
+    @Override
+    protected InformerConfiguration.InformerConfigurationBuilder<KeycloakRealmImport> informerConfigurationBuilder() {
+        return super.informerConfigurationBuilder()
+                .withItemStore(new TrimmedItemStore<>(false));
+    }
+
+    @Override
+    protected KeycloakRealmImport desired(Trustify cr, Context<Trustify> context) {
+        return keycloakRealmService.initInstance(cr, context);
+    }
+
+    @Override
+    public Set<ResourceID> toPrimaryResourceIDs(KeycloakRealmImport realmImport) {
+        return ownerMapper.toPrimaryResourceIDs(realmImport);
+    }
+
+}
@@ -0,0 +1,20 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.realmimport;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.ResourceDiscriminator;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.KeycloakRealmService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Optional;
+
+public class KeycloakRealmDiscriminator implements ResourceDiscriminator<KeycloakRealmImport, Trustify> {
+    @Override
+    public Optional<KeycloakRealmImport> distinguish(Class<KeycloakRealmImport> resource, Trustify cr, Context<Trustify> context) {
+        ResourceID resourceID = new ResourceID(KeycloakRealmService.getKeycloakRealmImportName(cr), cr.getMetadata().getNamespace());
+        return CRDUtils.getInformerEventSource(context, KeycloakRealmImport.class)
+                .flatMap(informerEventSource -> informerEventSource.get(resourceID));
+    }
+}
@@ -0,0 +1,19 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.realmimport;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.utils.KeycloakUtils;
+
+public class KeycloakRealmReadyPostCondition implements Condition<KeycloakRealmImport, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<KeycloakRealmImport, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
+        return context.getSecondaryResource(KeycloakRealmImport.class, new KeycloakRealmDiscriminator())
+                .map(KeycloakUtils::isKeycloakRealmImportReady)
+                .orElse(false);
+    }
+
+}
@@ -0,0 +1,57 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.server;
+
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Creator;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
+import io.javaoperatorsdk.operator.processing.event.source.informer.Mappers;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.keycloak.k8s.v2alpha1.Keycloak;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.services.KeycloakServerService;
+import org.trustify.operator.utils.TrimmedItemStore;
+
+import java.util.Set;
+
+/**
+ * The Keycloak is only created, never updated nor deleted by the workflow: its reconcile precondition (the Keycloak
+ * DB being ready) must not remove a running instance. It is owned by the Trustify CR and removed on cleanup.
+ */
+@KubernetesDependent(resourceDiscriminator = KeycloakServerDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class KeycloakServer extends KubernetesDependentResource<Keycloak, Trustify>
+        implements Creator<Keycloak, Trustify>, SecondaryToPrimaryMapper<Keycloak> {
+
+    private final SecondaryToPrimaryMapper<Keycloak> ownerMapper = Mappers.fromOwnerType(Trustify.class);
+
+    @Inject
+    KeycloakServerService keycloakServerService;
+
+    public KeycloakServer() {
+        super(Keycloak.class);
+    }
+
+    @Override
+    protected InformerConfiguration.InformerConfigurationBuilder<Keycloak> informerConfigurationBuilder() {
+        return super.informerConfigurationBuilder()
+                .withItemStore(new TrimmedItemStore<>(false));
+    }
+
+    @Override
+    protected Keycloak desired(Trustify cr, Context<Trustify> context) {
+        return keycloakServerService.initInstance(cr, context);
+    }
+
+    @Override
+    public Set<ResourceID> toPrimaryResourceIDs(Keycloak keycloak) {
+        return ownerMapper.toPrimaryResourceIDs(keycloak);
+    }
+
+}
@@ -0,0 +1,17 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.server;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.keycloak.k8s.v2alpha1.Keycloak;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.utils.KeycloakUtils;
+
+public class KeycloakServerActivationCondition implements Condition<Keycloak, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Keycloak, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return KeycloakUtils.isKeycloakRequired(cr);
+    }
+
+}
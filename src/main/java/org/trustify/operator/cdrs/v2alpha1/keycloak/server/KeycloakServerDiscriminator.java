@@ -0,0 +1,20 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.server;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.ResourceDiscriminator;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import org.keycloak.k8s.v2alpha1.Keycloak;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.KeycloakServerService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Optional;
+
+public class KeycloakServerDiscriminator implements ResourceDiscriminator<Keycloak, Trustify> {
+    @Override
+    public Optional<Keycloak> distinguish(Class<Keycloak> resource, Trustify cr, Context<Trustify> context) {
+        ResourceID resourceID = new ResourceID(KeycloakServerService.getKeycloakName(cr), cr.getMetadata().getNamespace());
+        return CRDUtils.getInformerEventSource(context, Keycloak.class)
+                .flatMap(informerEventSource -> informerEventSource.get(resourceID));
+    }
+}
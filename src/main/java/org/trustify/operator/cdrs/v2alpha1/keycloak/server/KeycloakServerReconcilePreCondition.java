@@ -0,0 +1,25 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.server;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.keycloak.k8s.v2alpha1.Keycloak;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.db.deployment.KeycloakDBDeploymentReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.utils.KeycloakUtils;
+
+/**
+ * The Keycloak DB is not a parent in the workflow because it is deactivated when an external DB is used,
+ * and that would deactivate the Keycloak too.
+ */
+public class KeycloakServerReconcilePreCondition implements Condition<Keycloak, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Keycloak, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
+        if (!KeycloakUtils.isKeycloakDBRequired(cr)) {
+            return true;
+        }
+        return new KeycloakDBDeploymentReadyPostCondition().isMet(null, cr, context);
+    }
+
+}
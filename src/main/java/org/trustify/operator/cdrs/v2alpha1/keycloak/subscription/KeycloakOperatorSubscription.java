@@ -0,0 +1,67 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.subscription;
+
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
+import io.javaoperatorsdk.operator.processing.dependent.Creator;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.IndexerResourceCache;
+import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.utils.KeycloakUtils;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.services.KeycloakOperatorService;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * The Subscription is shared by every Trustify instance of a namespace, so it is neither owned by nor deleted with
+ * any of them.
+ */
+@KubernetesDependent(resourceDiscriminator = KeycloakOperatorSubscriptionDiscriminator.class, genericFilter = KeycloakOperatorSubscriptionFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class KeycloakOperatorSubscription extends KubernetesDependentResource<Subscription, Trustify>
+        implements Creator<Subscription, Trustify>, SecondaryToPrimaryMapper<Subscription> {
+
+    @Inject
+    KeycloakOperatorService keycloakOperatorService;
+
+    private volatile IndexerResourceCache<Trustify> primaryCache;
+
+    public KeycloakOperatorSubscription() {
+        super(Subscription.class);
+    }
+
+    @Override
+    protected InformerEventSource<Subscription, Trustify> createEventSource(EventSourceContext<Trustify> context) {
+        primaryCache = context.getPrimaryCache();
+        return super.createEventSource(context);
+    }
+
+    @Override
+    protected Subscription desired(Trustify cr, Context<Trustify> context) {
+        return keycloakOperatorService.initInstance(cr);
+    }
+
+    @Override
+    public Subscription create(Subscription desired, Trustify cr, Context<Trustify> context) {
+        keycloakOperatorService.createOperatorGroupIfMissing(cr);
+        return super.create(desired, cr, context);
+    }
+
+    @Override
+    public Set<ResourceID> toPrimaryResourceIDs(Subscription subscription) {
+        if (primaryCache == null) {
+            return Collections.emptySet();
+        }
+        return KeycloakUtils.getKeycloakPrimaries(primaryCache, subscription.getMetadata().getNamespace());
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.subscription;
+
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.utils.KeycloakUtils;
+import org.trustify.operator.services.ClusterService;
+
+public class KeycloakOperatorSubscriptionActivationCondition implements Condition<Subscription, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Subscription, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        boolean isKcRequired = KeycloakUtils.isKeycloakRequired(cr);
+        if (isKcRequired) {
+            // The Subscription informer can only be registered if the OLM CRDs exist
+            ClusterService clusterService = context.managedDependentResourceContext().getMandatory(Constants.CLUSTER_SERVICE, ClusterService.class);
+            if (!clusterService.isOlmInstalled()) {
+                throw new IllegalStateException("The Kubernetes Cluster does not have OLM");
+            }
+        }
+        return isKcRequired;
+    }
+
+}
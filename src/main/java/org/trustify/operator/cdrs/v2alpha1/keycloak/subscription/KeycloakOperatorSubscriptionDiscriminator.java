@@ -0,0 +1,20 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.subscription;
+
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.ResourceDiscriminator;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.KeycloakOperatorService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Optional;
+
+public class KeycloakOperatorSubscriptionDiscriminator implements ResourceDiscriminator<Subscription, Trustify> {
+    @Override
+    public Optional<Subscription> distinguish(Class<Subscription> resource, Trustify cr, Context<Trustify> context) {
+        ResourceID resourceID = new ResourceID(KeycloakOperatorService.KEYCLOAK_OPERATOR_NAME, cr.getMetadata().getNamespace());
+        return CRDUtils.getInformerEventSource(context, Subscription.class)
+                .flatMap(informerEventSource -> informerEventSource.get(resourceID));
+    }
+}
@@ -0,0 +1,14 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.subscription;
+
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.services.KeycloakOperatorService;
+
+public class KeycloakOperatorSubscriptionFilter extends ShardFilter<Subscription> {
+
+    @Override
+    public boolean accept(Subscription subscription) {
+        return KeycloakOperatorService.isKeycloakOperatorResource(subscription.getMetadata().getName()) && super.accept(subscription);
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.trustify.operator.cdrs.v2alpha1.keycloak.subscription;
+
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.jboss.logging.Logger;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.KeycloakOperatorService;
+
+import java.util.AbstractMap;
+
+public class KeycloakOperatorSubscriptionReadyPostCondition implements Condition<Subscription, Trustify> {
+
+    private static final Logger logger = Logger.getLogger(KeycloakOperatorSubscriptionReadyPostCondition.class);
+
+    @Override
+    public boolean isMet(DependentResource<Subscription, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
+        KeycloakOperatorService keycloakOperatorService = context.managedDependentResourceContext().getMandatory(Constants.CONTEXT_KEYCLOAK_OPERATOR_SERVICE_KEY, KeycloakOperatorService.class);
+
+        AbstractMap.SimpleEntry<Boolean, String> subscriptionReady = keycloakOperatorService.isSubscriptionReady(cr, context);
+        if (!subscriptionReady.getKey()) {
+            logger.infof("Waiting for the Keycloak Operator to be ready: %s", subscriptionReady.getValue());
+        }
+        return subscriptionReady.getKey();
+    }
+
+}
@@ -1,5 +1,7 @@
 package org.trustify.operator.cdrs.v2alpha1.keycloak.utils;
 
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.IndexerResourceCache;
 import org.keycloak.k8s.v2alpha1.Keycloak;
 import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
@@ -7,6 +9,8 @@ import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class KeycloakUtils {
 
@@ -29,6 +33,17 @@ public class KeycloakUtils {
                 .orElse(false);
     }
 
+    /**
+     * The OLM resources of the Keycloak operator are shared by every Trustify instance of a namespace, so they can
+     * not be owned by any of them. Their events are delivered to all the instances of the namespace that require
+     * an embedded Keycloak.
+     */
+    public static Set<ResourceID> getKeycloakPrimaries(IndexerResourceCache<Trustify> primaryCache, String namespace) {
+        return primaryCache.list(namespace, KeycloakUtils::isKeycloakRequired)
+                .map(ResourceID::fromResource)
+                .collect(Collectors.toSet());
+    }
+
     public static boolean isKeycloakServerReady(Keycloak kcInstance) {
         return kcInstance.getStatus() != null && kcInstance.getStatus()
                 .getConditions().stream()
@@ -8,7 +8,6 @@ import org.trustify.operator.services.KeycloakRealmService;
 import org.trustify.operator.services.KeycloakServerService;
 
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
 
 public abstract class ServerReconcilePreCondition {
 
@@ -22,22 +21,16 @@ public abstract class ServerReconcilePreCondition {
                 return false;
             }
 
-            Boolean isKeycloakReady = keycloakServerService.get().getCurrentInstance(cr)
+            Boolean isKeycloakReady = keycloakServerService.get().getCurrentInstance(cr, context)
                     .map(KeycloakUtils::isKeycloakServerReady)
                     .orElse(false);
             if (!isKeycloakReady) {
                 return false;
             }
 
-            Boolean isKeycloakImportReady = keycloakRealmService.get().getCurrentInstance(cr)
+            return keycloakRealmService.get().getCurrentInstance(cr, context)
                     .map(KeycloakUtils::isKeycloakRealmImportReady)
                     .orElse(false);
-            if (!isKeycloakImportReady) {
-                return false;
-            }
-
-            Optional<AtomicReference> keycloakInstance = context.managedDependentResourceContext().get(Constants.KEYCLOAK, AtomicReference.class);
-            return keycloakInstance.isPresent() && keycloakInstance.get().get() != null;
         }
 
         return true;
@@ -16,14 +16,17 @@ import org.keycloak.k8s.v2alpha1.Keycloak;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.metrics.TrustifyMetrics;
 import org.trustify.operator.services.KeycloakRealmService;
 import org.trustify.operator.services.KeycloakServerService;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicReference;
 
-@KubernetesDependent(labelSelector = ServerConfigMap.LABEL_SELECTOR, resourceDiscriminator = ServerConfigMapDiscriminator.class)
+@KubernetesDependent(labelSelector = ServerConfigMap.LABEL_SELECTOR, resourceDiscriminator = ServerConfigMapDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap, Trustify>
         implements Creator<ConfigMap, Trustify> {
 
@@ -34,6 +37,9 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
     @Inject
     KubernetesClient k8sClient;
 
+    @Inject
+    TrustifyMetrics metrics;
+
     public ServerConfigMap() {
         super(ConfigMap.class);
     }
@@ -54,7 +60,13 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
     }
 
     public String getAuthValue(Trustify cr, Context<Trustify> context) {
-        Optional<String> yamlFile = Optional.ofNullable(cr.getSpec().oidcSpec())
+        Optional<String> yamlFile = getAuthData(cr, context)
+                .map(data -> AuthTemplate.auth(data).render());
+        return "\n" + yamlFile.orElse("");
+    }
+
+    public Optional<AuthTemplate.Data> getAuthData(Trustify cr, Context<Trustify> context) {
+        return Optional.ofNullable(cr.getSpec().oidcSpec())
                 .flatMap(oidcSpec -> {
                     if (oidcSpec.enabled()) {
                         Optional<String> oidcSecretName = oidcSpec.externalServer() ?
@@ -67,6 +79,7 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
                                     .withName(name)
                                     .endMetadata()
                                     .build();
+                            metrics.apiCall(ServerConfigMap.class, "get");
                             return k8sClient.resource(secret)
                                     .inNamespace(cr.getMetadata().getNamespace())
                                     .get();
@@ -80,28 +93,29 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
                                         oidcSpec.externalOidcSpec().uiClientId(),
                                         oidcSecret.isPresent() ? List.of(getAuthTlsCaCertificatePath(cr)) : Collections.emptyList()
                                 )));
-                                return Optional.of(AuthTemplate.auth(data).render());
+                                return Optional.of(data);
                             } else {
                                 logger.error("Oidc provider type is EXTERNAL but no config for external oidc was provided");
                                 return Optional.empty();
                             }
                         } else {
-                            AtomicReference<Keycloak> keycloakInstance = context.managedDependentResourceContext().getMandatory(Constants.KEYCLOAK, AtomicReference.class);
+                            final Keycloak keycloakInstance = context.managedDependentResourceContext().getMandatory(Constants.CONTEXT_KEYCLOAK_SERVER_SERVICE_KEY, KeycloakServerService.class)
+                                    .getCurrentInstance(cr, context)
+                                    .orElseThrow(() -> new IllegalStateException("Could not find the Keycloak instance"));
 
                             String keycloakRelativePath = KeycloakRealmService.getRealmClientRelativePath(cr);
-                            String serverUrl = KeycloakServerService.getServiceUrl(cr, keycloakInstance.get()) + keycloakRelativePath;
+                            String serverUrl = KeycloakServerService.getServiceUrl(cr, keycloakInstance) + keycloakRelativePath;
 
                             AuthTemplate.Data data = new AuthTemplate.Data(List.of(new AuthTemplate.Client(
                                     serverUrl,
                                     KeycloakRealmService.getUIClientName(cr),
                                     oidcSecret.isPresent() ? List.of(getAuthTlsCaCertificatePath(cr)) : Collections.emptyList()
                             )));
-                            return Optional.of(AuthTemplate.auth(data).render());
+                            return Optional.of(data);
                         }
                     }
                     return Optional.empty();
                 });
-        return "\n" + yamlFile.orElse("");
     }
 
     private ConfigMap newConfigMap(Trustify cr, Context<Trustify> context) {
@@ -0,0 +1,186 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.configmap;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentConfigurator;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBWalPersistentVolumeClaim;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * postgresql.conf settings sized after the memory limit of the database container.
+ * The image includes every *.conf file of the directory this ConfigMap is mounted in.
+ */
+@KubernetesDependent(labelSelector = DBConfigMap.LABEL_SELECTOR, resourceDiscriminator = DBConfigMapDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class DBConfigMap extends CRUDKubernetesDependentResource<ConfigMap, Trustify>
+        implements Matcher<ConfigMap, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db";
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 100;
+
+    private static final long KB_PER_MB = 1024;
+
+    @Inject
+    DBDeploymentConfigurator dbDeploymentConfigurator;
+
+    public DBConfigMap() {
+        super(ConfigMap.class);
+    }
+
+    @Override
+    protected ConfigMap desired(Trustify cr, Context<Trustify> context) {
+        ResourceRequirements resourceRequirements = dbDeploymentConfigurator.getConfig(cr, context).resourceRequirements();
+
+        return new ConfigMapBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getConfigMapName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withData(getData(cr, resourceRequirements, DBWalPersistentVolumeClaim.isInUse(cr, context)))
+                .build();
+    }
+
+    private static Map<String, String> getData(Trustify cr, ResourceRequirements resourceRequirements, boolean walVolume) {
+        Map<String, String> data = new TreeMap<>();
+        data.put(getConfigKey(), getPostgresqlConf(cr, resourceRequirements));
+        if (walVolume) {
+            data.put(getWalScriptKey(), getWalScript());
+        }
+        return data;
+    }
+
+    @Override
+    public Result<ConfigMap> match(ConfigMap actual, Trustify cr, Context<Trustify> context) {
+        ConfigMap desired = desired(cr, context);
+        return Result.computed(Objects.equals(desired.getData(), actual.getData()), desired);
+    }
+
+    /**
+     * Follows the usual sizing rules: a quarter of the memory for shared_buffers, three quarters as
+     * effective_cache_size, and work_mem sharing what is left between the connections.
+     * Parameters set in the CR take precedence, except for an invalid max_connections which falls back to the default.
+     */
+    public static Map<String, String> getParameters(Trustify cr, ResourceRequirements resourceRequirements) {
+        long memoryKb = Optional.ofNullable(resourceRequirements.getLimits())
+                .map(limits -> limits.get("memory"))
+                .map(quantity -> Quantity.getAmountInBytes(quantity).longValue() / 1024)
+                .orElse(512 * KB_PER_MB);
+        int maxConnections = getMaxConnections(cr);
+
+        long sharedBuffers = memoryKb / 4;
+        long effectiveCacheSize = memoryKb * 3 / 4;
+        long maintenanceWorkMem = Math.min(memoryKb / 16, 2048 * KB_PER_MB);
+        long workMem = Math.max(64, (memoryKb - sharedBuffers) / (maxConnections * 3L));
+        long walBuffers = Math.max(64, Math.min(sharedBuffers / 32, 16 * KB_PER_MB));
+
+        Map<String, String> parameters = new TreeMap<>();
+        parameters.put("max_connections", String.valueOf(maxConnections));
+        parameters.put("shared_buffers", sharedBuffers + "kB");
+        parameters.put("effective_cache_size", effectiveCacheSize + "kB");
+        parameters.put("maintenance_work_mem", maintenanceWorkMem + "kB");
+        parameters.put("work_mem", workMem + "kB");
+        parameters.put("wal_buffers", walBuffers + "kB");
+        getUserParameters(cr).forEach((name, value) -> {
+            if (!name.equals("max_connections")) {
+                parameters.put(name, value);
+            }
+        });
+        return parameters;
+    }
+
+    public static int getMaxConnections(Trustify cr) {
+        return Optional.ofNullable(getUserParameters(cr).get("max_connections"))
+                .flatMap(DBConfigMap::parseMaxConnections)
+                .orElse(DEFAULT_MAX_CONNECTIONS);
+    }
+
+    /**
+     * Whether the max_connections set in the CR, if any, is a positive integer.
+     */
+    public static boolean isMaxConnectionsValid(Trustify cr) {
+        return Optional.ofNullable(getUserParameters(cr).get("max_connections"))
+                .map(value -> parseMaxConnections(value).isPresent())
+                .orElse(true);
+    }
+
+    private static Optional<Integer> parseMaxConnections(String value) {
+        try {
+            int maxConnections = Integer.parseInt(value.trim());
+            return maxConnections > 0 ? Optional.of(maxConnections) : Optional.empty();
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> getUserParameters(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .flatMap(databaseSpec -> Optional.ofNullable(databaseSpec.embeddedDatabaseSpec()))
+                .map(TrustifySpec.EmbeddedDatabaseSpec::parameters)
+                .orElse(Map.of());
+    }
+
+    public static String getPostgresqlConf(Trustify cr, ResourceRequirements resourceRequirements) {
+        return getParameters(cr, resourceRequirements).entrySet().stream()
+                .map(entry -> entry.getKey() + " = '" + entry.getValue().replace("'", "''") + "'")
+                .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    /**
+     * Sourced by the image before the server starts. New databases are created with their WAL on the volume
+     * (the function shadows the initdb command), existing ones have it moved there and linked back.
+     * The WAL is copied next to its destination and renamed into place before the directory is swapped for
+     * the link, so a move interrupted at any point is completed or redone on the next start.
+     */
+    public static String getWalScript() {
+        return """
+                WAL_DIR=%s/pg_wal
+                if [ ! -e "$PGDATA/pg_wal" ] && [ -d "$PGDATA/pg_wal.old" ]; then
+                  ln -s "$WAL_DIR" "$PGDATA/pg_wal"
+                fi
+                if [ -d "$PGDATA/pg_wal" ] && [ ! -L "$PGDATA/pg_wal" ]; then
+                  rm -rf "$WAL_DIR.tmp" "$WAL_DIR"
+                  cp -a "$PGDATA/pg_wal" "$WAL_DIR.tmp" && sync && mv "$WAL_DIR.tmp" "$WAL_DIR" \\
+                    && mv "$PGDATA/pg_wal" "$PGDATA/pg_wal.old" && ln -s "$WAL_DIR" "$PGDATA/pg_wal"
+                fi
+                if [ -L "$PGDATA/pg_wal" ]; then
+                  rm -rf "$PGDATA/pg_wal.old"
+                fi
+                mkdir -p "$WAL_DIR"
+                initdb() {
+                  command initdb --waldir="$WAL_DIR" "$@"
+                }
+                """.formatted(DBDeploymentConfigurator.WAL_MOUNT_PATH);
+    }
+
+    public static String getWalScriptKey() {
+        return "wal.sh";
+    }
+
+    public static String getConfigMapName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_CONFIG_MAP_SUFFIX;
+    }
+
+    public static String getConfigKey() {
+        return "trustify.conf";
+    }
+}
@@ -0,0 +1,17 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.configmap;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.DBActivationCondition;
+
+public class DBConfigMapActivationCondition extends DBActivationCondition implements Condition<ConfigMap, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<ConfigMap, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return super.isMet(cr);
+    }
+
+}
@@ -9,12 +9,17 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
 import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.Map;
 
-@KubernetesDependent(labelSelector = DBDeployment.LABEL_SELECTOR, resourceDiscriminator = DBDeploymentDiscriminator.class)
+@KubernetesDependent(labelSelector = DBDeployment.LABEL_SELECTOR, resourceDiscriminator = DBDeploymentDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Trustify> {
 
     public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db";
@@ -33,24 +38,26 @@ public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = dbDeploymentConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
-        return Result.nonComputed(match);
+        Deployment desired = desired(cr, context);
+        return Result.computed(CRDUtils.matchPodTemplateHash(desired, actual), desired);
     }
 
     private Deployment newDeployment(Trustify cr, Context<Trustify> context) {
+        DeploymentSpec deploymentSpec = getDeploymentSpec(cr, context);
+
         return new DeploymentBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getDeploymentName(cr), LABEL_SELECTOR, cr))
                         .addToLabels("app.openshift.io/runtime", "postgresql")
+                        .addToAnnotations(Constants.POD_TEMPLATE_HASH_ANNOTATION, CRDUtils.getPodTemplateHash(deploymentSpec.getTemplate()))
                         .build()
                 )
-                .withSpec(getDeploymentSpec(cr, context))
+                .withSpec(deploymentSpec)
                 .build();
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = dbDeploymentConfigurator.configureDeployment(cr, context);
+        ResourceConfigurator.Config config = dbDeploymentConfigurator.getConfig(cr, context);
 
         return new DeploymentSpecBuilder()
                 .withStrategy(new DeploymentStrategyBuilder()
@@ -65,11 +72,18 @@ public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                 .withTemplate(new PodTemplateSpecBuilder()
                         .withNewMetadata()
                         .withLabels(getPodSelectorLabels(cr))
+                        .withAnnotations(Map.of(
+                                Constants.CONFIG_HASH_ANNOTATION, CRDUtils.getHash(DBConfigMap.getPostgresqlConf(cr, config.resourceRequirements()))
+                        ))
                         .endMetadata()
                         .withSpec(new PodSpecBuilder()
                                 .withRestartPolicy("Always")
                                 .withTerminationGracePeriodSeconds(60L)
                                 .withImagePullSecrets(cr.getSpec().imagePullSecrets())
+                                .withNodeSelector(config.schedulingSpec().nodeSelector())
+                                .withTolerations(config.schedulingSpec().tolerations())
+                                .withAffinity(config.schedulingSpec().affinity())
+                                .withTopologySpreadConstraints(config.schedulingSpec().topologySpreadConstraints())
                                 .withContainers(new ContainerBuilder()
                                         .withName(Constants.TRUSTI_DB_NAME)
                                         .withImage(config.image())
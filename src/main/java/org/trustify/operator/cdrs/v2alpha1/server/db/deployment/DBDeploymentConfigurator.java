@@ -8,7 +8,9 @@ import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.TrustifyImagesConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
 import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBPersistentVolumeClaim;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBWalPersistentVolumeClaim;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecret;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.utils.CRDUtils;
@@ -21,6 +23,8 @@ import java.util.Optional;
 @ApplicationScoped
 public class DBDeploymentConfigurator implements ResourceConfigurator {
 
+    public static final String WAL_MOUNT_PATH = "/var/lib/pgsql/wal";
+
     @Inject
     TrustifyImagesConfig trustifyImagesConfig;
 
@@ -40,11 +44,17 @@ public class DBDeploymentConfigurator implements ResourceConfigurator {
                 .orElse(null);
         ResourceRequirements resourceRequirements = CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
 
+        TrustifySpec.SchedulingSpec schedulingSpec = Optional.ofNullable(cr.getSpec().databaseSpec())
+                .flatMap(databaseSpec -> Optional.ofNullable(databaseSpec.embeddedDatabaseSpec()))
+                .map(TrustifySpec.EmbeddedDatabaseSpec::schedulingSpec)
+                .orElse(new TrustifySpec.SchedulingSpec(null, null, null, null));
+
         Config config = new Config(
                 image,
                 imagePullPolicy,
                 imagePullSecrets,
                 resourceRequirements,
+                schedulingSpec,
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>()
@@ -71,6 +81,44 @@ public class DBDeploymentConfigurator implements ResourceConfigurator {
                 .withMountPath("/var/lib/pgsql/data")
                 .build()
         );
+
+        String configVolName = "db-config";
+        config.allVolumes().add(new VolumeBuilder()
+                .withName(configVolName)
+                .withConfigMap(new ConfigMapVolumeSourceBuilder()
+                        .withName(DBConfigMap.getConfigMapName(cr))
+                        .build()
+                )
+                .build()
+        );
+        config.allVolumeMounts().add(new VolumeMountBuilder()
+                .withName(configVolName)
+                .withMountPath("/opt/app-root/src/postgresql-cfg")
+                .build()
+        );
+
+        if (DBWalPersistentVolumeClaim.isInUse(cr, context)) {
+            String walVolName = "db-wal-pvol";
+            config.allVolumes().add(new VolumeBuilder()
+                    .withName(walVolName)
+                    .withPersistentVolumeClaim(new PersistentVolumeClaimVolumeSourceBuilder()
+                            .withClaimName(DBWalPersistentVolumeClaim.getPersistentVolumeClaimName(cr))
+                            .build()
+                    )
+                    .build()
+            );
+            config.allVolumeMounts().add(new VolumeMountBuilder()
+                    .withName(walVolName)
+                    .withMountPath(WAL_MOUNT_PATH)
+                    .build()
+            );
+            config.allVolumeMounts().add(new VolumeMountBuilder()
+                    .withName(configVolName)
+                    .withMountPath("/opt/app-root/src/postgresql-pre-start/" + DBConfigMap.getWalScriptKey())
+                    .withSubPath(DBConfigMap.getWalScriptKey())
+                    .build()
+            );
+        }
     }
 
     private void configureEnvs(Config config, Trustify cr, Context<Trustify> context) {
@@ -12,12 +12,16 @@ import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.services.PersistentVolumeClaimService;
+import org.trustify.operator.utils.CRDUtils;
 
-import java.util.Map;
 import java.util.Optional;
 
-@KubernetesDependent(labelSelector = DBPersistentVolumeClaim.LABEL_SELECTOR, resourceDiscriminator = DBPersistentVolumeClaimDiscriminator.class)
+@KubernetesDependent(labelSelector = DBPersistentVolumeClaim.LABEL_SELECTOR, resourceDiscriminator = DBPersistentVolumeClaimDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class DBPersistentVolumeClaim extends CRUDKubernetesDependentResource<PersistentVolumeClaim, Trustify>
         implements Creator<PersistentVolumeClaim, Trustify> {
 
@@ -26,6 +30,9 @@ public class DBPersistentVolumeClaim extends CRUDKubernetesDependentResource<Per
     @Inject
     TrustifyConfig trustifyConfig;
 
+    @Inject
+    PersistentVolumeClaimService persistentVolumeClaimService;
+
     public DBPersistentVolumeClaim() {
         super(PersistentVolumeClaim.class);
     }
@@ -36,35 +43,41 @@ public class DBPersistentVolumeClaim extends CRUDKubernetesDependentResource<Per
     }
 
     private PersistentVolumeClaim newPersistentVolumeClaim(Trustify cr, Context<Trustify> context) {
-        String pvcStorageSize = Optional.ofNullable(cr.getSpec().databaseSpec())
-                .flatMap(databaseSpec -> Optional.ofNullable(databaseSpec.embeddedDatabaseSpec()))
+        Optional<TrustifySpec.EmbeddedDatabaseSpec> embeddedDatabaseSpec = Optional.ofNullable(cr.getSpec().databaseSpec())
+                .flatMap(databaseSpec -> Optional.ofNullable(databaseSpec.embeddedDatabaseSpec()));
+        String pvcStorageSize = embeddedDatabaseSpec
                 .map(TrustifySpec.EmbeddedDatabaseSpec::pvcSize)
                 .orElse(trustifyConfig.defaultPvcSize());
+        TrustifySpec.StorageVolumeSpec volumeSpec = embeddedDatabaseSpec
+                .map(TrustifySpec.EmbeddedDatabaseSpec::volumeSpec)
+                .orElse(null);
 
         return new PersistentVolumeClaimBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getPersistentVolumeClaimName(cr), LABEL_SELECTOR, cr))
                         .build()
                 )
-                .withSpec(new PersistentVolumeClaimSpecBuilder()
-                        .withAccessModes("ReadWriteOnce")
-                        .withResources(new VolumeResourceRequirementsBuilder()
-                                .withRequests(Map.of("storage", new Quantity(pvcStorageSize)))
-                                .build()
-                        )
-                        .build()
-                )
+                .withSpec(CRDUtils.getPersistentVolumeClaimSpec(pvcStorageSize, volumeSpec))
                 .build();
     }
 
+    /**
+     * The claim is only updated to grow it, see {@link PersistentVolumeClaimService}.
+     */
     @Override
     public Matcher.Result<PersistentVolumeClaim> match(PersistentVolumeClaim actual, Trustify cr, Context<Trustify> context) {
         final var desiredPersistentVolumeClaimName = getPersistentVolumeClaimName(cr);
-        return Matcher.Result.nonComputed(actual
-                .getMetadata()
-                .getName()
-                .equals(desiredPersistentVolumeClaimName)
-        );
+        if (!actual.getMetadata().getName().equals(desiredPersistentVolumeClaimName)) {
+            return Matcher.Result.nonComputed(false);
+        }
+
+        PersistentVolumeClaim desired = desired(cr, context);
+        return Matcher.Result.computed(!persistentVolumeClaimService.isExpansionRequired(actual, desired.getSpec()), desired);
+    }
+
+    @Override
+    public PersistentVolumeClaim update(PersistentVolumeClaim actual, PersistentVolumeClaim desired, Trustify cr, Context<Trustify> context) {
+        return persistentVolumeClaimService.expand(actual, desired.getSpec());
     }
 
     public static String getPersistentVolumeClaimName(Trustify cr) {
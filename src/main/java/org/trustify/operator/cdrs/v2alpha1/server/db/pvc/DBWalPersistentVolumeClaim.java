@@ -0,0 +1,100 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.pvc;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Creator;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.TrustifyConfig;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.services.PersistentVolumeClaimService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Optional;
+
+/**
+ * Write-ahead log of the database, kept apart from the data so it can live on a faster StorageClass.
+ */
+@KubernetesDependent(labelSelector = DBWalPersistentVolumeClaim.LABEL_SELECTOR, resourceDiscriminator = DBWalPersistentVolumeClaimDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class DBWalPersistentVolumeClaim extends CRUDKubernetesDependentResource<PersistentVolumeClaim, Trustify>
+        implements Creator<PersistentVolumeClaim, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db";
+
+    @Inject
+    TrustifyConfig trustifyConfig;
+
+    @Inject
+    PersistentVolumeClaimService persistentVolumeClaimService;
+
+    public DBWalPersistentVolumeClaim() {
+        super(PersistentVolumeClaim.class);
+    }
+
+    @Override
+    protected PersistentVolumeClaim desired(Trustify cr, Context<Trustify> context) {
+        return newPersistentVolumeClaim(cr, context);
+    }
+
+    private PersistentVolumeClaim newPersistentVolumeClaim(Trustify cr, Context<Trustify> context) {
+        // The spec is gone when walVolume was disabled after the WAL moved to the claim, see isInUse
+        Optional<TrustifySpec.DatabaseWalVolumeSpec> walVolumeSpec = Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::walVolumeSpec);
+        String pvcStorageSize = walVolumeSpec.map(TrustifySpec.DatabaseWalVolumeSpec::pvcSize)
+                .orElse(trustifyConfig.defaultPvcSize());
+
+        return new PersistentVolumeClaimBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getPersistentVolumeClaimName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(CRDUtils.getPersistentVolumeClaimSpec(pvcStorageSize, walVolumeSpec.map(TrustifySpec.DatabaseWalVolumeSpec::volumeSpec).orElse(null)))
+                .build();
+    }
+
+    /**
+     * The claim is only updated to grow it, see {@link PersistentVolumeClaimService}.
+     */
+    @Override
+    public Matcher.Result<PersistentVolumeClaim> match(PersistentVolumeClaim actual, Trustify cr, Context<Trustify> context) {
+        final var desiredPersistentVolumeClaimName = getPersistentVolumeClaimName(cr);
+        if (!actual.getMetadata().getName().equals(desiredPersistentVolumeClaimName)) {
+            return Matcher.Result.nonComputed(false);
+        }
+
+        PersistentVolumeClaim desired = desired(cr, context);
+        return Matcher.Result.computed(!persistentVolumeClaimService.isExpansionRequired(actual, desired.getSpec()), desired);
+    }
+
+    @Override
+    public PersistentVolumeClaim update(PersistentVolumeClaim actual, PersistentVolumeClaim desired, Trustify cr, Context<Trustify> context) {
+        return persistentVolumeClaimService.expand(actual, desired.getSpec());
+    }
+
+    /**
+     * Once the WAL is moved to the claim the data directory links to it, so the claim stays mounted, and the
+     * link maintained, even if walVolume is disabled afterwards.
+     */
+    public static boolean isInUse(Trustify cr, Context<Trustify> context) {
+        return ServerUtils.isDBWalVolumeEnabled(cr) || (ServerUtils.isServerDBRequired(cr) && new DBWalPersistentVolumeClaimDiscriminator()
+                .distinguish(PersistentVolumeClaim.class, cr, context)
+                .isPresent()
+        );
+    }
+
+    public static String getPersistentVolumeClaimName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_WAL_PVC_SUFFIX;
+    }
+
+}
@@ -10,14 +10,22 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.utils.AutoscalingUtils;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
-@KubernetesDependent(labelSelector = ServerDeployment.LABEL_SELECTOR, resourceDiscriminator = ServerDeploymentDiscriminator.class)
+@KubernetesDependent(labelSelector = ServerDeployment.LABEL_SELECTOR, resourceDiscriminator = ServerDeploymentDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment, Trustify>
         implements Matcher<Deployment, Trustify> {
 
@@ -37,22 +45,49 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        boolean matchDesiredInstances = getDesiredInstances(cr) == actual.getSpec().getReplicas();
+        boolean matchDesiredInstances = getDesiredInstances(cr, context) == actual.getSpec().getReplicas();
         if (!matchDesiredInstances) {
             return Result.nonComputed(false);
         }
 
-        ResourceConfigurator.Config config = distConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
-        return Result.nonComputed(match);
+        Deployment desired = desired(cr, context);
+        return Result.computed(CRDUtils.matchPodTemplateHash(desired, actual) && matchStrategy(desired, actual), desired);
     }
 
-    private int getDesiredInstances(Trustify cr) {
+    /**
+     * The strategy is not part of the pod template, so a change of the rollout does not change its hash.
+     */
+    static boolean matchStrategy(Deployment desired, Deployment actual) {
+        DeploymentStrategy desiredStrategy = desired.getSpec().getStrategy();
+        DeploymentStrategy actualStrategy = actual.getSpec().getStrategy();
+        if (actualStrategy == null || !Objects.equals(desiredStrategy.getType(), actualStrategy.getType())) {
+            return false;
+        }
+
+        RollingUpdateDeployment desiredRollingUpdate = desiredStrategy.getRollingUpdate();
+        RollingUpdateDeployment actualRollingUpdate = actualStrategy.getRollingUpdate();
+        if (desiredRollingUpdate == null || actualRollingUpdate == null) {
+            return desiredRollingUpdate == actualRollingUpdate;
+        }
+        return Objects.equals(desiredRollingUpdate.getMaxSurge(), actualRollingUpdate.getMaxSurge()) &&
+                Objects.equals(desiredRollingUpdate.getMaxUnavailable(), actualRollingUpdate.getMaxUnavailable());
+    }
+
+    private int getDesiredInstances(Trustify cr, Context<Trustify> context) {
+        if (AutoscalingUtils.isEnabled(cr.getSpec().serverAutoscalingSpec())) {
+            // The HorizontalPodAutoscaler owns the replicas, the current value is kept
+            return context.getSecondaryResource(Deployment.class, new ServerDeploymentDiscriminator())
+                    .map(deployment -> deployment.getSpec().getReplicas())
+                    .orElseGet(() -> AutoscalingUtils.getMinReplicas(cr.getSpec().serverAutoscalingSpec()));
+        }
+
         return Optional.ofNullable(cr.getSpec().serverInstances())
                 .orElse(1);
     }
 
     private Deployment newDeployment(Trustify cr, Context<Trustify> context, ServerDeploymentConfigurator distConfigurator) {
+        DeploymentSpec deploymentSpec = getDeploymentSpec(cr, context, distConfigurator);
+
         return new DeploymentBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getDeploymentName(cr), LABEL_SELECTOR, cr))
@@ -60,21 +95,19 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
                                 [{"apiVersion": "apps/v1", "kind":"Deployment", "name": "%s"}]
                                 """.formatted(DBDeployment.getDeploymentName(cr))
                         ))
+                        .addToAnnotations(Constants.POD_TEMPLATE_HASH_ANNOTATION, CRDUtils.getPodTemplateHash(deploymentSpec.getTemplate()))
                         .build()
                 )
-                .withSpec(getDeploymentSpec(cr, context, distConfigurator))
+                .withSpec(deploymentSpec)
                 .build();
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context, ServerDeploymentConfigurator distConfigurator) {
-        ServerDeploymentConfigurator.Config config = distConfigurator.configureDeployment(cr, context);
+        ServerDeploymentConfigurator.Config config = distConfigurator.getConfig(cr, context);
 
         return new DeploymentSpecBuilder()
-                .withStrategy(new DeploymentStrategyBuilder()
-                        .withType("Recreate")
-                        .build()
-                )
-                .withReplicas(getDesiredInstances(cr))
+                .withStrategy(getDeploymentStrategy(cr))
+                .withReplicas(getDesiredInstances(cr, context))
                 .withSelector(new LabelSelectorBuilder()
                         .withMatchLabels(getPodSelectorLabels(cr))
                         .build()
@@ -87,18 +120,10 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
                                 .withRestartPolicy("Always")
                                 .withTerminationGracePeriodSeconds(70L)
                                 .withImagePullSecrets(cr.getSpec().imagePullSecrets())
-                                .withInitContainers(new ContainerBuilder()
-                                        .withName("migrate")
-                                        .withImage(config.image())
-                                        .withImagePullPolicy(config.imagePullPolicy())
-                                        .withEnv(config.allEnvVars())
-                                        .withCommand("/usr/local/bin/trustd")
-                                        .withArgs(
-                                                "db",
-                                                "migrate"
-                                        )
-                                        .build()
-                                )
+                                .withNodeSelector(config.schedulingSpec().nodeSelector())
+                                .withTolerations(config.schedulingSpec().tolerations())
+                                .withAffinity(config.schedulingSpec().affinity())
+                                .withTopologySpreadConstraints(config.schedulingSpec().topologySpreadConstraints())
                                 .withContainers(new ContainerBuilder()
                                         .withName(Constants.TRUSTI_SERVER_NAME)
                                         .withImage(config.image())
@@ -175,6 +200,26 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
                 .build();
     }
 
+    /**
+     * A rolling update keeps the previous pods serving while the new ones start. It is not the default
+     * with filesystem storage since a ReadWriteOnce volume can not be attached to pods on different nodes.
+     */
+    private DeploymentStrategy getDeploymentStrategy(Trustify cr) {
+        Optional<TrustifySpec.RolloutSpec> rolloutSpec = Optional.ofNullable(cr.getSpec().serverRolloutSpec());
+        TrustifySpec.RolloutStrategyType strategyType = ServerUtils.getServerRolloutStrategyType(cr);
+
+        DeploymentStrategyBuilder strategyBuilder = new DeploymentStrategyBuilder()
+                .withType(strategyType.getValue());
+        if (strategyType == TrustifySpec.RolloutStrategyType.ROLLING_UPDATE) {
+            strategyBuilder.withRollingUpdate(new RollingUpdateDeploymentBuilder()
+                    .withMaxSurge(CRDUtils.getIntOrString(ServerUtils.getServerMaxSurge(cr)))
+                    .withMaxUnavailable(CRDUtils.getIntOrString(rolloutSpec.map(TrustifySpec.RolloutSpec::maxUnavailable).orElse("0")))
+                    .build()
+            );
+        }
+        return strategyBuilder.build();
+    }
+
     public static String getDeploymentName(Trustify cr) {
         return cr.getMetadata().getName() + Constants.SERVER_DEPLOYMENT_SUFFIX;
     }
@@ -10,14 +10,18 @@ import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifyConfiguration;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 import org.trustify.operator.cdrs.v2alpha1.server.configmap.ServerConfigMap;
+import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStorageCachePersistentVolumeClaim;
 import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.services.KeycloakRealmService;
 import org.trustify.operator.utils.CRDUtils;
 import org.trustify.operator.utils.OptionMapper;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @ApplicationScoped
@@ -43,11 +47,15 @@ public class ServerDeploymentConfigurator extends TrustifyConfiguration implemen
                 .orElse(null);
         ResourceRequirements resourceRequirements = CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
 
+        TrustifySpec.SchedulingSpec schedulingSpec = Optional.ofNullable(cr.getSpec().serverSchedulingSpec())
+                .orElse(new TrustifySpec.SchedulingSpec(null, null, null, null));
+
         Config config = new Config(
                 image,
                 imagePullPolicy,
                 imagePullSecrets,
                 resourceRequirements,
+                schedulingSpec,
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>()
@@ -56,7 +64,9 @@ public class ServerDeploymentConfigurator extends TrustifyConfiguration implemen
         configureGeneral(config, cr);
         configureHttp(config, cr);
         configureDatabase(config, cr);
-        configureStorage(config, cr);
+        configureDatabaseReadReplicas(config, cr);
+        configureStorage(config, cr, TrustifySpec.StorageSpec::serverCompressionSpec);
+        configureStorageCache(config, cr);
         configureOidc(config, cr);
 
         return config;
@@ -140,6 +150,95 @@ public class ServerDeploymentConfigurator extends TrustifyConfiguration implemen
         config.allVolumeMounts().add(volumeMount);
     }
 
+    /**
+     * Read-only connections go straight to the replicas, they are not pooled.
+     */
+    private void configureDatabaseReadReplicas(Config config, Trustify cr) {
+        if (!ServerUtils.isDBReadReplicasEnabled(cr)) {
+            return;
+        }
+
+        // libpq picks the first of the hosts that accepts the connection
+        TrustifySpec.DatabaseReadReplicasSpec readReplicasSpec = cr.getSpec().databaseSpec().readReplicasSpec();
+        config.allEnvVars().addAll(new OptionMapper<>(readReplicasSpec)
+                .mapOption("TRUSTD_DB_READ_HOST", spec -> Optional.ofNullable(spec.hosts())
+                        .map(hosts -> String.join(",", hosts))
+                        .orElse(null)
+                )
+                .mapOption("TRUSTD_DB_READ_PORT", spec -> Optional.ofNullable(spec.port())
+                        .orElseGet(() -> Optional.ofNullable(cr.getSpec().databaseSpec().externalDatabaseSpec())
+                                .map(TrustifySpec.ExternalDatabaseSpec::port)
+                                .orElse(null)
+                        )
+                )
+                .mapOption("TRUSTD_DB_READ_MIN_CONN", TrustifySpec.DatabaseReadReplicasSpec::poolMinSize)
+                .mapOption("TRUSTD_DB_READ_MAX_CONN", TrustifySpec.DatabaseReadReplicasSpec::poolMaxSize)
+                .getEnvVars()
+        );
+    }
+
+    /**
+     * The cache evicts documents before filling the volume, an emptyDir over its sizeLimit gets the pod evicted.
+     */
+    private void configureStorageCache(Config config, Trustify cr) {
+        Optional<TrustifySpec.StorageCacheSpec> storageCacheSpec = ServerUtils.getStorageCacheSpec(cr);
+        if (storageCacheSpec.isEmpty()) {
+            return;
+        }
+
+        TrustifySpec.StorageCacheSpec cacheSpec = storageCacheSpec.get();
+        Quantity size = new Quantity(ServerUtils.getStorageCacheSize(cacheSpec));
+
+        var volumeBuilder = new VolumeBuilder()
+                .withName("trustify-cache");
+        switch (ServerUtils.getStorageCacheType(cacheSpec)) {
+            case EMPTY_DIR -> volumeBuilder.withEmptyDir(new EmptyDirVolumeSourceBuilder()
+                    .withSizeLimit(size)
+                    .build()
+            );
+            case EPHEMERAL -> volumeBuilder.withNewEphemeral()
+                    .withNewVolumeClaimTemplate()
+                    .withNewSpec()
+                    .withAccessModes("ReadWriteOnce")
+                    .withStorageClassName(cacheSpec.storageClassName())
+                    .withResources(new VolumeResourceRequirementsBuilder()
+                            .withRequests(Map.of("storage", size))
+                            .build()
+                    )
+                    .endSpec()
+                    .endVolumeClaimTemplate()
+                    .endEphemeral();
+            case SHARED -> volumeBuilder.withPersistentVolumeClaim(new PersistentVolumeClaimVolumeSourceBuilder()
+                    .withClaimName(ServerStorageCachePersistentVolumeClaim.getPersistentVolumeClaimName(cr))
+                    .build()
+            );
+        }
+        var volume = volumeBuilder.build();
+
+        var volumeMount = new VolumeMountBuilder()
+                .withName(volume.getName())
+                .withMountPath("/opt/trustify/cache")
+                .build();
+
+        config.allVolumes().add(volume);
+        config.allVolumeMounts().add(volumeMount);
+
+        BigInteger maxSize = Quantity.getAmountInBytes(size).toBigInteger()
+                .multiply(BigInteger.valueOf(9))
+                .divide(BigInteger.TEN);
+        config.allEnvVars().add(new EnvVarBuilder()
+                .withName("TRUSTD_STORAGE_CACHE_PATH")
+                .withValue(volumeMount.getMountPath())
+                .build()
+        );
+        config.allEnvVars().addAll(new OptionMapper<>(cacheSpec)
+                .mapOption("TRUSTD_STORAGE_CACHE_MAX_SIZE", spec -> maxSize)
+                .mapOption("TRUSTD_STORAGE_CACHE_MAX_OBJECT_SIZE", spec -> Objects.nonNull(spec.maxObjectSize()) ? Quantity.getAmountInBytes(new Quantity(spec.maxObjectSize())).toBigInteger() : null)
+                .mapOption("TRUSTD_STORAGE_CACHE_TTL", spec -> Objects.nonNull(spec.ttlSeconds()) ? spec.ttlSeconds() + "s" : null)
+                .getEnvVars()
+        );
+    }
+
     private void configureOidc(Config config, Trustify cr) {
         Optional.ofNullable(cr.getSpec().oidcSpec())
                 .flatMap(oidcSpec -> {
@@ -7,6 +7,7 @@ import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.server.ServerReconcilePreCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment.DBPoolerDeploymentReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 
 public class ServerDeploymentReconcilePreCondition extends ServerReconcilePreCondition implements Condition<Deployment, Trustify> {
@@ -22,6 +23,14 @@ public class ServerDeploymentReconcilePreCondition extends ServerReconcilePreCon
             }
         }
 
+        if (ServerUtils.isDBPoolerEnabled(cr)) {
+            DBPoolerDeploymentReadyPostCondition dbPoolerDeploymentReadyPostCondition = new DBPoolerDeploymentReadyPostCondition();
+            boolean isDBPoolerReady = dbPoolerDeploymentReadyPostCondition.isMet(null, cr, context);
+            if (!isDBPoolerReady) {
+                return false;
+            }
+        }
+
         return super.isMet(cr, context);
     }
 
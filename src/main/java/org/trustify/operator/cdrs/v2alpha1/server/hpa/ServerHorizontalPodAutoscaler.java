@@ -0,0 +1,51 @@
+package org.trustify.operator.cdrs.v2alpha1.server.hpa;
+
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscalerBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.utils.AutoscalingUtils;
+
+import java.util.Objects;
+
+@KubernetesDependent(labelSelector = ServerHorizontalPodAutoscaler.LABEL_SELECTOR, resourceDiscriminator = ServerHorizontalPodAutoscalerDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class ServerHorizontalPodAutoscaler extends CRUDKubernetesDependentResource<HorizontalPodAutoscaler, Trustify>
+        implements Matcher<HorizontalPodAutoscaler, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server";
+
+    public ServerHorizontalPodAutoscaler() {
+        super(HorizontalPodAutoscaler.class);
+    }
+
+    @Override
+    protected HorizontalPodAutoscaler desired(Trustify cr, Context<Trustify> context) {
+        return new HorizontalPodAutoscalerBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getHorizontalPodAutoscalerName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(AutoscalingUtils.getHorizontalPodAutoscalerSpec(cr.getSpec().serverAutoscalingSpec(), ServerDeployment.getDeploymentName(cr)))
+                .build();
+    }
+
+    @Override
+    public Result<HorizontalPodAutoscaler> match(HorizontalPodAutoscaler actual, Trustify cr, Context<Trustify> context) {
+        HorizontalPodAutoscaler desired = desired(cr, context);
+        return Result.computed(Objects.equals(desired.getSpec(), actual.getSpec()), desired);
+    }
+
+    public static String getHorizontalPodAutoscalerName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.SERVER_HPA_SUFFIX;
+    }
+}
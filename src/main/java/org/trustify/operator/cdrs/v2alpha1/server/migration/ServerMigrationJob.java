@@ -0,0 +1,190 @@
+package org.trustify.operator.cdrs.v2alpha1.server.migration;
+
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PodSpecBuilder;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobSpecBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobStatus;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyConfiguration;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyMigrationStatus;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.metrics.TrustifyMetrics;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Runs the database migrations once per server version, before the server Deployment is rolled out.
+ * The Job is identified by the hash of the server image and the database connection settings, a change of any of
+ * them replaces it. Other changes of the server configuration do not run the migrations again.
+ */
+@KubernetesDependent(labelSelector = ServerMigrationJob.LABEL_SELECTOR, resourceDiscriminator = ServerMigrationJobDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class ServerMigrationJob extends CRUDKubernetesDependentResource<Job, Trustify>
+        implements Matcher<Job, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server-migration";
+
+    @Inject
+    ServerDeploymentConfigurator distConfigurator;
+
+    @Inject
+    TrustifyMetrics metrics;
+
+    public ServerMigrationJob() {
+        super(Job.class);
+    }
+
+    @Override
+    protected Job desired(Trustify cr, Context<Trustify> context) {
+        ResourceConfigurator.Config config = distConfigurator.getConfig(cr, context);
+        List<EnvVar> envVars = getEnvVars(cr);
+        PodTemplateSpec podTemplateSpec = getPodTemplateSpec(cr, config, envVars);
+
+        return new JobBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getJobName(cr), LABEL_SELECTOR, cr))
+                        .addToAnnotations(Constants.MIGRATION_HASH_ANNOTATION, getMigrationHash(config.image(), envVars))
+                        .addToAnnotations(Constants.SERVER_IMAGE_ANNOTATION, config.image())
+                        .build()
+                )
+                .withSpec(new JobSpecBuilder()
+                        .withBackoffLimit(3)
+                        .withTemplate(podTemplateSpec)
+                        .build()
+                )
+                .build();
+    }
+
+    @Override
+    public Result<Job> match(Job actual, Trustify cr, Context<Trustify> context) {
+        Job desired = desired(cr, context);
+        return Result.computed(matchMigrationHash(desired, actual), desired);
+    }
+
+    /**
+     * The pod template of a Job is immutable, so the previous version is replaced rather than patched. Creating
+     * the new one right away could conflict with the old one while it is being deleted, so it is only deleted here.
+     * Its delete event triggers a new reconciliation, which creates the new Job.
+     */
+    @Override
+    public Job update(Job actual, Job desired, Trustify cr, Context<Trustify> context) {
+        metrics.apiCall(ServerMigrationJob.class, "delete");
+        context.getClient().resource(actual)
+                .withPropagationPolicy(DeletionPropagation.BACKGROUND)
+                .delete();
+        return actual;
+    }
+
+    private PodTemplateSpec getPodTemplateSpec(Trustify cr, ResourceConfigurator.Config config, List<EnvVar> envVars) {
+        return new PodTemplateSpecBuilder()
+                .withSpec(new PodSpecBuilder()
+                        .withRestartPolicy("Never")
+                        .withImagePullSecrets(cr.getSpec().imagePullSecrets())
+                        .withContainers(new ContainerBuilder()
+                                .withName("migrate")
+                                .withImage(config.image())
+                                .withImagePullPolicy(config.imagePullPolicy())
+                                .withEnv(envVars)
+                                .withCommand("/usr/local/bin/trustd")
+                                .withArgs(
+                                        "db",
+                                        "migrate"
+                                )
+                                .withResources(config.resourceRequirements())
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    /**
+     * The migrations only need the database connection, the rest of the server configuration (e.g. the storage,
+     * OIDC or TLS settings) refers to files that are not mounted in the Job.
+     * Migrations hold session level locks, which transaction pooling does not preserve,
+     * so the Job always connects to the database directly.
+     */
+    private static List<EnvVar> getEnvVars(Trustify cr) {
+        return TrustifyConfiguration.getDatabaseEnvVars(cr, false);
+    }
+
+    static String getMigrationHash(String image, List<EnvVar> envVars) {
+        return CRDUtils.getCanonicalHash(Map.of(
+                "image", image,
+                "env", envVars
+        ));
+    }
+
+    private static boolean matchMigrationHash(Job desired, Job actual) {
+        String actualHash = Optional.ofNullable(actual.getMetadata().getAnnotations())
+                .map(annotations -> annotations.get(Constants.MIGRATION_HASH_ANNOTATION))
+                .orElse(null);
+        return Objects.equals(desired.getMetadata().getAnnotations().get(Constants.MIGRATION_HASH_ANNOTATION), actualHash);
+    }
+
+    /**
+     * Whether the Job has completed and was created for the desired image and database.
+     */
+    boolean isMigrated(Job job, Trustify cr, Context<Trustify> context) {
+        return matchMigrationHash(desired(cr, context), job) &&
+                Objects.equals(getPhase(job), TrustifyMigrationStatus.SUCCEEDED);
+    }
+
+    public static TrustifyMigrationStatus getMigrationStatus(Job job) {
+        TrustifyMigrationStatus migrationStatus = new TrustifyMigrationStatus();
+        migrationStatus.setJob(job.getMetadata().getName());
+        migrationStatus.setImage(Optional.ofNullable(job.getMetadata().getAnnotations())
+                .map(annotations -> annotations.get(Constants.SERVER_IMAGE_ANNOTATION))
+                .orElse(null)
+        );
+        migrationStatus.setPhase(getPhase(job));
+        return migrationStatus;
+    }
+
+    public static String getPhase(Job job) {
+        JobStatus status = job.getStatus();
+        if (status == null) {
+            return TrustifyMigrationStatus.PENDING;
+        }
+
+        if (status.getSucceeded() != null && status.getSucceeded() >= 1) {
+            return TrustifyMigrationStatus.SUCCEEDED;
+        }
+        boolean failed = Optional.ofNullable(status.getConditions()).stream()
+                .flatMap(Collection::stream)
+                .anyMatch(condition -> Objects.equals(condition.getType(), "Failed") && Objects.equals(condition.getStatus(), "True"));
+        if (failed) {
+            return TrustifyMigrationStatus.FAILED;
+        }
+        if (status.getActive() != null && status.getActive() >= 1) {
+            return TrustifyMigrationStatus.RUNNING;
+        }
+        return TrustifyMigrationStatus.PENDING;
+    }
+
+    public static String getJobName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.SERVER_MIGRATION_JOB_SUFFIX;
+    }
+}
@@ -0,0 +1,19 @@
+package org.trustify.operator.cdrs.v2alpha1.server.migration;
+
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+public class ServerMigrationJobReadyPostCondition implements Condition<Job, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Job, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
+        ServerMigrationJob serverMigrationJob = (ServerMigrationJob) dependentResource;
+        return context.getSecondaryResource(Job.class, new ServerMigrationJobDiscriminator())
+                .map(job -> serverMigrationJob.isMigrated(job, cr, context))
+                .orElse(false);
+    }
+
+}
@@ -0,0 +1,24 @@
+package org.trustify.operator.cdrs.v2alpha1.server.migration;
+
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+
+public class ServerMigrationJobReconcilePreCondition implements Condition<Job, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Job, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
+        boolean isDBRequired = ServerUtils.isServerDBRequired(cr);
+        if (isDBRequired) {
+            DBDeploymentReadyPostCondition dbDeploymentReadyPostCondition = new DBDeploymentReadyPostCondition();
+            return dbDeploymentReadyPostCondition.isMet(null, cr, context);
+        }
+
+        return true;
+    }
+
+}
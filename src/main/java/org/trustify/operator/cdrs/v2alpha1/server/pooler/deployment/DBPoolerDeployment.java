@@ -0,0 +1,151 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.api.model.apps.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * PgBouncer in transaction pooling mode. The Server and Importer pods share its connections to the database,
+ * so their number no longer multiplies the connections opened against it.
+ */
+@KubernetesDependent(labelSelector = DBPoolerDeployment.LABEL_SELECTOR, resourceDiscriminator = DBPoolerDeploymentDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class DBPoolerDeployment extends CRUDKubernetesDependentResource<Deployment, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db-pooler";
+
+    @Inject
+    DBPoolerDeploymentConfigurator dbPoolerDeploymentConfigurator;
+
+    public DBPoolerDeployment() {
+        super(Deployment.class);
+    }
+
+    @Override
+    protected Deployment desired(Trustify cr, Context<Trustify> context) {
+        return newDeployment(cr, context);
+    }
+
+    @Override
+    public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
+        boolean matchDesiredInstances = Objects.equals(getDesiredInstances(cr), actual.getSpec().getReplicas());
+        if (!matchDesiredInstances) {
+            return Result.nonComputed(false);
+        }
+
+        Deployment desired = desired(cr, context);
+        return Result.computed(CRDUtils.matchPodTemplateHash(desired, actual), desired);
+    }
+
+    private Deployment newDeployment(Trustify cr, Context<Trustify> context) {
+        DeploymentSpec deploymentSpec = getDeploymentSpec(cr, context);
+
+        return new DeploymentBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getDeploymentName(cr), LABEL_SELECTOR, cr))
+                        .addToAnnotations(Constants.POD_TEMPLATE_HASH_ANNOTATION, CRDUtils.getPodTemplateHash(deploymentSpec.getTemplate()))
+                        .build()
+                )
+                .withSpec(deploymentSpec)
+                .build();
+    }
+
+    private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context) {
+        ResourceConfigurator.Config config = dbPoolerDeploymentConfigurator.getConfig(cr, context);
+
+        return new DeploymentSpecBuilder()
+                .withReplicas(getDesiredInstances(cr))
+                .withSelector(new LabelSelectorBuilder()
+                        .withMatchLabels(getPodSelectorLabels(cr))
+                        .build()
+                )
+                .withTemplate(new PodTemplateSpecBuilder()
+                        .withNewMetadata()
+                        .withLabels(getPodSelectorLabels(cr))
+                        .endMetadata()
+                        .withSpec(new PodSpecBuilder()
+                                .withRestartPolicy("Always")
+                                .withTerminationGracePeriodSeconds(30L)
+                                .withImagePullSecrets(cr.getSpec().imagePullSecrets())
+                                .withContainers(new ContainerBuilder()
+                                        .withName(Constants.TRUSTI_DB_POOLER_NAME)
+                                        .withImage(config.image())
+                                        .withImagePullPolicy(config.imagePullPolicy())
+                                        .withEnv(config.allEnvVars())
+                                        .withPorts(new ContainerPortBuilder()
+                                                .withName("tcp")
+                                                .withProtocol(Constants.SERVICE_PROTOCOL)
+                                                .withContainerPort(getPoolerPort(cr))
+                                                .build()
+                                        )
+                                        .withLivenessProbe(new ProbeBuilder()
+                                                .withTcpSocket(new TCPSocketActionBuilder()
+                                                        .withPort(new IntOrString(getPoolerPort(cr)))
+                                                        .build()
+                                                )
+                                                .withInitialDelaySeconds(10)
+                                                .withTimeoutSeconds(5)
+                                                .withPeriodSeconds(10)
+                                                .withSuccessThreshold(1)
+                                                .withFailureThreshold(3)
+                                                .build()
+                                        )
+                                        .withReadinessProbe(new ProbeBuilder()
+                                                .withTcpSocket(new TCPSocketActionBuilder()
+                                                        .withPort(new IntOrString(getPoolerPort(cr)))
+                                                        .build()
+                                                )
+                                                .withInitialDelaySeconds(5)
+                                                .withTimeoutSeconds(1)
+                                                .withPeriodSeconds(10)
+                                                .withSuccessThreshold(1)
+                                                .withFailureThreshold(3)
+                                                .build()
+                                        )
+                                        .withVolumeMounts(config.allVolumeMounts())
+                                        .withResources(config.resourceRequirements())
+                                        .build()
+                                )
+                                .withVolumes(config.allVolumes())
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    public static int getDesiredInstances(Trustify cr) {
+        return DBPoolerDeploymentConfigurator.getPoolerSpec(cr)
+                .map(TrustifySpec.DatabasePoolerSpec::instances)
+                .orElse(1);
+    }
+
+    public static String getDeploymentName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_POOLER_DEPLOYMENT_SUFFIX;
+    }
+
+    public static Map<String, String> getPodSelectorLabels(Trustify cr) {
+        return Map.of(
+                "trustify-operator/group", "db-pooler"
+        );
+    }
+
+    public static Integer getPoolerPort(Trustify cr) {
+        return Constants.DB_POOLER_PORT;
+    }
+}
@@ -0,0 +1,150 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.TrustifyConfig;
+import org.trustify.operator.TrustifyImagesConfig;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecret;
+import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.utils.CRDUtils;
+import org.trustify.operator.utils.OptionMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The entrypoint of the edoburu/pgbouncer image renders pgbouncer.ini and userlist.txt from the environment,
+ * each setting of pgbouncer.ini is read from the variable with its upper case name.
+ */
+@ApplicationScoped
+public class DBPoolerDeploymentConfigurator implements ResourceConfigurator {
+
+    /**
+     * Database connections per client pod when the pool size is derived. Transactions are short,
+     * so a handful of them serve the whole pool of a trustd process.
+     */
+    public static final int DEFAULT_POOL_SIZE_PER_CLIENT = 5;
+
+    /**
+     * sqlx prepares its statements, PgBouncer tracks them across the server connections.
+     */
+    public static final int MAX_PREPARED_STATEMENTS = 200;
+
+    @Inject
+    TrustifyImagesConfig trustifyImagesConfig;
+
+    @Inject
+    TrustifyConfig trustifyConfig;
+
+    @Override
+    public Config configureDeployment(Trustify cr, Context<Trustify> context) {
+        String image = trustifyImagesConfig.dbPoolerImage();
+        String imagePullPolicy = Optional.ofNullable(cr.getSpec().imagePullPolicy()).orElse(trustifyImagesConfig.imagePullPolicy());
+
+        List<LocalObjectReference> imagePullSecrets = Optional.ofNullable(cr.getSpec().imagePullSecrets()).orElse(new ArrayList<>());
+
+        TrustifySpec.ResourcesLimitSpec resourcesLimitSpec = getPoolerSpec(cr)
+                .map(TrustifySpec.DatabasePoolerSpec::resourceLimits)
+                .orElse(null);
+        ResourceRequirements resourceRequirements = CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
+
+        TrustifySpec.SchedulingSpec schedulingSpec = getPoolerSpec(cr)
+                .map(TrustifySpec.DatabasePoolerSpec::schedulingSpec)
+                .orElse(new TrustifySpec.SchedulingSpec(null, null, null, null));
+
+        Config config = new Config(
+                image,
+                imagePullPolicy,
+                imagePullSecrets,
+                resourceRequirements,
+                schedulingSpec,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>()
+        );
+
+        configureDatabase(config, cr);
+        configurePooling(config, cr);
+
+        return config;
+    }
+
+    private void configureDatabase(Config config, Trustify cr) {
+        List<EnvVar> envVars;
+        if (ServerUtils.isServerDBRequired(cr)) {
+            envVars = new OptionMapper<>(cr.getSpec())
+                    .mapOption("DB_USER", spec -> DBSecret.getUsernameSecretKeySelector(cr))
+                    .mapOption("DB_PASSWORD", spec -> DBSecret.getPasswordSecretKeySelector(cr))
+                    .mapOption("DB_HOST", spec -> DBService.getServiceHost(cr))
+                    .mapOption("DB_PORT", spec -> DBDeployment.getDatabasePort(cr))
+                    .mapOption("DB_NAME", spec -> DBDeployment.getDatabaseName(cr))
+                    .getEnvVars();
+        } else {
+            envVars = new OptionMapper<>(cr.getSpec().databaseSpec().externalDatabaseSpec())
+                    .mapOption("DB_USER", TrustifySpec.ExternalDatabaseSpec::usernameSecret)
+                    .mapOption("DB_PASSWORD", TrustifySpec.ExternalDatabaseSpec::passwordSecret)
+                    .mapOption("DB_HOST", TrustifySpec.ExternalDatabaseSpec::host)
+                    .mapOption("DB_PORT", TrustifySpec.ExternalDatabaseSpec::port)
+                    .mapOption("DB_NAME", TrustifySpec.ExternalDatabaseSpec::name)
+                    .mapOption("SERVER_TLS_SSLMODE", TrustifySpec.ExternalDatabaseSpec::sslMode)
+                    .getEnvVars();
+        }
+        config.allEnvVars().addAll(envVars);
+    }
+
+    private void configurePooling(Config config, Trustify cr) {
+        int poolSize = getPoolSize(cr);
+        config.allEnvVars().addAll(new OptionMapper<>(cr.getSpec())
+                .mapOption("LISTEN_PORT", spec -> DBPoolerDeployment.getPoolerPort(cr))
+                // The password is kept in clear text in userlist.txt, so both md5 and SCRAM servers are supported
+                .mapOption("AUTH_TYPE", spec -> "scram-sha-256")
+                .mapOption("POOL_MODE", spec -> "transaction")
+                .mapOption("DEFAULT_POOL_SIZE", spec -> poolSize)
+                .mapOption("MAX_DB_CONNECTIONS", spec -> poolSize)
+                .mapOption("MAX_CLIENT_CONN", spec -> getMaxClientConnections(cr))
+                .mapOption("MAX_PREPARED_STATEMENTS", spec -> MAX_PREPARED_STATEMENTS)
+                // Sent by sqlx on every new connection
+                .mapOption("IGNORE_STARTUP_PARAMETERS", spec -> "extra_float_digits")
+                .getEnvVars()
+        );
+    }
+
+    /**
+     * Every Server and Importer pod may open its whole pool against any of the pooler instances.
+     */
+    public static int getMaxClientConnections(Trustify cr) {
+        return getPoolerSpec(cr)
+                .map(TrustifySpec.DatabasePoolerSpec::maxClientConnections)
+                .orElseGet(() -> getClients(cr) * ServerUtils.getDBPoolMaxSize(cr));
+    }
+
+    /**
+     * A few connections per client pod, limited to the share of max_connections left to each pooler instance.
+     */
+    public static int getPoolSize(Trustify cr) {
+        return getPoolerSpec(cr)
+                .map(TrustifySpec.DatabasePoolerSpec::poolSize)
+                .orElseGet(() -> {
+                    int available = ServerUtils.getDBConnectionBudget(cr) / Math.max(1, DBPoolerDeployment.getDesiredInstances(cr));
+                    return Math.max(1, Math.min(available, getClients(cr) * DEFAULT_POOL_SIZE_PER_CLIENT));
+                });
+    }
+
+    private static int getClients(Trustify cr) {
+        return ServerUtils.getMaxServerPods(cr) + ServerUtils.getMaxImporterInstances(cr);
+    }
+
+    static Optional<TrustifySpec.DatabasePoolerSpec> getPoolerSpec(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::poolerSpec);
+    }
+
+}
@@ -0,0 +1,25 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+public class DBPoolerDeploymentReadyPostCondition implements Condition<Deployment, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Deployment, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
+        return context.getSecondaryResource(Deployment.class, new DBPoolerDeploymentDiscriminator())
+                .map(deployment -> {
+                    final var status = deployment.getStatus();
+                    if (status != null) {
+                        final var readyReplicas = status.getReadyReplicas();
+                        return readyReplicas != null && readyReplicas >= 1;
+                    }
+                    return false;
+                })
+                .orElse(false);
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pooler.service;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServiceSpec;
+import io.fabric8.kubernetes.api.model.ServiceSpecBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment.DBPoolerDeployment;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+
+@KubernetesDependent(labelSelector = DBPoolerService.LABEL_SELECTOR, resourceDiscriminator = DBPoolerServiceDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class DBPoolerService extends CRUDKubernetesDependentResource<Service, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db-pooler";
+
+    public DBPoolerService() {
+        super(Service.class);
+    }
+
+    @Override
+    public Service desired(Trustify cr, Context<Trustify> context) {
+        return newService(cr, context);
+    }
+
+    private Service newService(Trustify cr, Context<Trustify> context) {
+        return new ServiceBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getServiceName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(getServiceSpec(cr))
+                .build();
+    }
+
+    private ServiceSpec getServiceSpec(Trustify cr) {
+        return new ServiceSpecBuilder()
+                .addNewPort()
+                .withPort(getServicePort(cr))
+                .withProtocol(Constants.SERVICE_PROTOCOL)
+                .endPort()
+                .withSelector(DBPoolerDeployment.getPodSelectorLabels(cr))
+                .withType("ClusterIP")
+                .build();
+    }
+
+    public static String getServiceName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_POOLER_SERVICE_SUFFIX;
+    }
+
+    public static String getServiceHost(Trustify cr) {
+        return String.format("%s.%s.svc", getServiceName(cr), cr.getMetadata().getNamespace());
+    }
+
+    public static Integer getServicePort(Trustify cr) {
+        return DBPoolerDeployment.getPoolerPort(cr);
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pvc;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Creator;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.services.PersistentVolumeClaimService;
+
+import java.util.Map;
+
+/**
+ * Cache of the S3 documents shared by all the Server pods.
+ */
+@KubernetesDependent(labelSelector = ServerStorageCachePersistentVolumeClaim.LABEL_SELECTOR, resourceDiscriminator = ServerStorageCachePersistentVolumeClaimDiscriminator.class, genericFilter = ShardFilter.class)
+@ApplicationScoped
+@MeasuredDependent
+public class ServerStorageCachePersistentVolumeClaim extends CRUDKubernetesDependentResource<PersistentVolumeClaim, Trustify>
+        implements Creator<PersistentVolumeClaim, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server";
+
+    @Inject
+    PersistentVolumeClaimService persistentVolumeClaimService;
+
+    public ServerStorageCachePersistentVolumeClaim() {
+        super(PersistentVolumeClaim.class);
+    }
+
+    @Override
+    protected PersistentVolumeClaim desired(Trustify cr, Context<Trustify> context) {
+        return newPersistentVolumeClaim(cr, context);
+    }
+
+    private PersistentVolumeClaim newPersistentVolumeClaim(Trustify cr, Context<Trustify> context) {
+        TrustifySpec.StorageCacheSpec cacheSpec = cr.getSpec().storageSpec().cacheSpec();
+
+        return new PersistentVolumeClaimBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getPersistentVolumeClaimName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(new PersistentVolumeClaimSpecBuilder()
+                        .withAccessModes("ReadWriteMany")
+                        .withStorageClassName(cacheSpec.storageClassName())
+                        .withResources(new VolumeResourceRequirementsBuilder()
+                                .withRequests(Map.of("storage", new Quantity(ServerUtils.getStorageCacheSize(cacheSpec))))
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    /**
+     * The claim is only updated to grow it, see {@link PersistentVolumeClaimService}.
+     */
+    @Override
+    public Result<PersistentVolumeClaim> match(PersistentVolumeClaim actual, Trustify cr, Context<Trustify> context) {
+        final var desiredPersistentVolumeClaimName = getPersistentVolumeClaimName(cr);
+        if (!actual.getMetadata().getName().equals(desiredPersistentVolumeClaimName)) {
+            return Result.nonComputed(false);
+        }
+
+        PersistentVolumeClaim desired = desired(cr, context);
+        return Result.computed(!persistentVolumeClaimService.isExpansionRequired(actual, desired.getSpec()), desired);
+    }
+
+    @Override
+    public PersistentVolumeClaim update(PersistentVolumeClaim actual, PersistentVolumeClaim desired, Trustify cr, Context<Trustify> context) {
+        return persistentVolumeClaimService.expand(actual, desired.getSpec());
+    }
+
+    public static String getPersistentVolumeClaimName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.SERVER_CACHE_PVC_SUFFIX;
+    }
+
+}
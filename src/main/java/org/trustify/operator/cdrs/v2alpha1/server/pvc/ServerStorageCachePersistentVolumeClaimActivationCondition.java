@@ -0,0 +1,17 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pvc;
+
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+
+public class ServerStorageCachePersistentVolumeClaimActivationCondition implements Condition<PersistentVolumeClaim, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<PersistentVolumeClaim, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return ServerUtils.isSharedStorageCache(cr);
+    }
+
+}
@@ -11,12 +11,16 @@ import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.services.PersistentVolumeClaimService;
+import org.trustify.operator.utils.CRDUtils;
 
-import java.util.Map;
 import java.util.Optional;
 
-@KubernetesDependent(labelSelector = ServerStoragePersistentVolumeClaim.LABEL_SELECTOR, resourceDiscriminator = ServerStoragePersistentVolumeClaimDiscriminator.class)
+@KubernetesDependent(labelSelector = ServerStoragePersistentVolumeClaim.LABEL_SELECTOR, resourceDiscriminator = ServerStoragePersistentVolumeClaimDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class ServerStoragePersistentVolumeClaim extends CRUDKubernetesDependentResource<PersistentVolumeClaim, Trustify>
         implements Creator<PersistentVolumeClaim, Trustify> {
 
@@ -25,6 +29,9 @@ public class ServerStoragePersistentVolumeClaim extends CRUDKubernetesDependentR
     @Inject
     TrustifyConfig trustifyConfig;
 
+    @Inject
+    PersistentVolumeClaimService persistentVolumeClaimService;
+
     public ServerStoragePersistentVolumeClaim() {
         super(PersistentVolumeClaim.class);
     }
@@ -35,35 +42,41 @@ public class ServerStoragePersistentVolumeClaim extends CRUDKubernetesDependentR
     }
 
     private PersistentVolumeClaim newPersistentVolumeClaim(Trustify cr, Context<Trustify> context) {
-        String pvcStorageSize = Optional.ofNullable(cr.getSpec().storageSpec())
-                .flatMap(storageSpec -> Optional.ofNullable(storageSpec.filesystemStorageSpec()))
+        Optional<TrustifySpec.FilesystemStorageSpec> filesystemStorageSpec = Optional.ofNullable(cr.getSpec().storageSpec())
+                .flatMap(storageSpec -> Optional.ofNullable(storageSpec.filesystemStorageSpec()));
+        String pvcStorageSize = filesystemStorageSpec
                 .map(TrustifySpec.FilesystemStorageSpec::pvcSize)
                 .orElse(trustifyConfig.defaultPvcSize());
+        TrustifySpec.StorageVolumeSpec volumeSpec = filesystemStorageSpec
+                .map(TrustifySpec.FilesystemStorageSpec::volumeSpec)
+                .orElse(null);
 
         return new PersistentVolumeClaimBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getPersistentVolumeClaimName(cr), LABEL_SELECTOR, cr))
                         .build()
                 )
-                .withSpec(new PersistentVolumeClaimSpecBuilder()
-                        .withAccessModes("ReadWriteOnce")
-                        .withResources(new VolumeResourceRequirementsBuilder()
-                                .withRequests(Map.of("storage", new Quantity(pvcStorageSize)))
-                                .build()
-                        )
-                        .build()
-                )
+                .withSpec(CRDUtils.getPersistentVolumeClaimSpec(pvcStorageSize, volumeSpec))
                 .build();
     }
 
+    /**
+     * The claim is only updated to grow it, see {@link PersistentVolumeClaimService}.
+     */
     @Override
     public Result<PersistentVolumeClaim> match(PersistentVolumeClaim actual, Trustify cr, Context<Trustify> context) {
         final var desiredPersistentVolumeClaimName = getPersistentVolumeClaimName(cr);
-        return Result.nonComputed(actual
-                .getMetadata()
-                .getName()
-                .equals(desiredPersistentVolumeClaimName)
-        );
+        if (!actual.getMetadata().getName().equals(desiredPersistentVolumeClaimName)) {
+            return Result.nonComputed(false);
+        }
+
+        PersistentVolumeClaim desired = desired(cr, context);
+        return Result.computed(!persistentVolumeClaimService.isExpansionRequired(actual, desired.getSpec()), desired);
+    }
+
+    @Override
+    public PersistentVolumeClaim update(PersistentVolumeClaim actual, PersistentVolumeClaim desired, Trustify cr, Context<Trustify> context) {
+        return persistentVolumeClaimService.expand(actual, desired.getSpec());
     }
 
     public static String getPersistentVolumeClaimName(Trustify cr) {
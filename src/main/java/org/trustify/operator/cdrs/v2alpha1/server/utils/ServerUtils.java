@@ -3,15 +3,32 @@ package org.trustify.operator.cdrs.v2alpha1.server.utils;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyDatabaseConnectionsStatus;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
 import org.trustify.operator.services.ClusterService;
+import org.trustify.operator.services.ImporterAutoscalerService;
+import org.trustify.operator.utils.AutoscalingUtils;
 import org.trustify.operator.utils.CRDUtils;
 
+import java.util.Objects;
 import java.util.Optional;
 
 @ApplicationScoped
 public class ServerUtils {
 
+    /**
+     * Size of the connection pool of each trustd process when it is not configured, trustd's own default.
+     */
+    public static final int DEFAULT_DB_POOL_MAX_SIZE = 75;
+
+    /**
+     * Database connections left for migrations and administrative sessions.
+     */
+    public static final int DEFAULT_DB_RESERVED_CONNECTIONS = 10;
+    public static final String DEFAULT_STORAGE_CACHE_SIZE = "1Gi";
+    public static final String DEFAULT_SERVER_MAX_SURGE = "1";
+
     @Inject
     ClusterService clusterService;
 
@@ -21,6 +38,191 @@ public class ServerUtils {
                 .orElse(false);
     }
 
+    public static boolean isDBWalVolumeEnabled(Trustify cr) {
+        return isServerDBRequired(cr) && Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::walVolumeSpec)
+                .map(TrustifySpec.DatabaseWalVolumeSpec::enabled)
+                .orElse(false);
+    }
+
+    public static boolean isDBPoolerEnabled(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::poolerSpec)
+                .map(TrustifySpec.DatabasePoolerSpec::enabled)
+                .orElse(false);
+    }
+
+    /**
+     * The operator does not manage replicas, they are only supported for an external database.
+     */
+    public static boolean isDBReadReplicasEnabled(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .filter(TrustifySpec.DatabaseSpec::externalDatabase)
+                .map(TrustifySpec.DatabaseSpec::readReplicasSpec)
+                .map(TrustifySpec.DatabaseReadReplicasSpec::enabled)
+                .orElse(false);
+    }
+
+    /**
+     * With the pooler the pods do not hold database connections, so their pools are left alone.
+     */
+    public static boolean isDBPoolAutoSized(Trustify cr) {
+        return getDBPoolSizingSpec(cr)
+                .map(TrustifySpec.DatabasePoolSizingSpec::auto)
+                .orElse(false) && !isDBPoolerEnabled(cr);
+    }
+
+    public static int getDBMaxConnections(Trustify cr) {
+        if (isServerDBRequired(cr)) {
+            return DBConfigMap.getMaxConnections(cr);
+        }
+        return getDBPoolSizingSpec(cr)
+                .map(TrustifySpec.DatabasePoolSizingSpec::maxConnections)
+                .orElse(DBConfigMap.DEFAULT_MAX_CONNECTIONS);
+    }
+
+    public static int getDBReservedConnections(Trustify cr) {
+        return getDBPoolSizingSpec(cr)
+                .map(TrustifySpec.DatabasePoolSizingSpec::reservedConnections)
+                .orElse(DEFAULT_DB_RESERVED_CONNECTIONS);
+    }
+
+    /**
+     * Connections the Server and Importer pods may hold, all together.
+     */
+    public static int getDBConnectionBudget(Trustify cr) {
+        return Math.max(0, getDBMaxConnections(cr) - getDBReservedConnections(cr));
+    }
+
+    /**
+     * Every pod gets the same share of the budget, counting the autoscaled ones at their maximum and the pod
+     * surged by a rolling update so that neither scaling nor a rollout overcommits the database.
+     */
+    public static int getDBPoolMaxSize(Trustify cr) {
+        if (isDBPoolAutoSized(cr)) {
+            return getDBPoolShare(getDBConnectionBudget(cr), getMaxServerPods(cr) + getMaxImporterInstances(cr));
+        }
+
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .filter(TrustifySpec.DatabaseSpec::externalDatabase)
+                .map(TrustifySpec.DatabaseSpec::externalDatabaseSpec)
+                .map(TrustifySpec.ExternalDatabaseSpec::poolMaxSize)
+                .orElse(DEFAULT_DB_POOL_MAX_SIZE);
+    }
+
+    /**
+     * Without pods, e.g. every instance scaled to 0, there is nothing to share and the whole budget is used.
+     */
+    static int getDBPoolShare(int budget, int pods) {
+        return Math.max(1, pods > 0 ? budget / pods : budget);
+    }
+
+    public static int getDBPoolMinSize(Trustify cr) {
+        return Math.max(1, getDBPoolMaxSize(cr) / 4);
+    }
+
+    public static TrustifyDatabaseConnectionsStatus getDBConnectionsStatus(Trustify cr) {
+        TrustifyDatabaseConnectionsStatus status = new TrustifyDatabaseConnectionsStatus();
+        status.setMaxConnections(getDBMaxConnections(cr));
+        status.setReservedConnections(getDBReservedConnections(cr));
+        status.setServerInstances(getMaxServerPods(cr));
+        status.setImporterInstances(getMaxImporterInstances(cr));
+        status.setPoolMaxSize(getDBPoolMaxSize(cr));
+        status.setPoolMinSize(getDBPoolMinSize(cr));
+        return status;
+    }
+
+    private static Optional<TrustifySpec.DatabasePoolSizingSpec> getDBPoolSizingSpec(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::poolSizingSpec);
+    }
+
+    /**
+     * Upper bound of the Server pods, autoscaled instances count with their maximum.
+     */
+    public static int getMaxServerInstances(Trustify cr) {
+        if (AutoscalingUtils.isEnabled(cr.getSpec().serverAutoscalingSpec())) {
+            return AutoscalingUtils.getMaxReplicas(cr.getSpec().serverAutoscalingSpec());
+        }
+        return Optional.ofNullable(cr.getSpec().serverInstances()).orElse(1);
+    }
+
+    /**
+     * Upper bound of the Server pods during a rolling update, which creates up to maxSurge pods above the instances.
+     */
+    public static int getMaxServerPods(Trustify cr) {
+        int instances = getMaxServerInstances(cr);
+        if (getServerRolloutStrategyType(cr) != TrustifySpec.RolloutStrategyType.ROLLING_UPDATE) {
+            return instances;
+        }
+        return instances + getSurgePods(getServerMaxSurge(cr), instances);
+    }
+
+    /**
+     * Percentages are rounded up, as the Deployment controller does. Values it would reject count as the default.
+     */
+    static int getSurgePods(String maxSurge, int instances) {
+        String value = maxSurge.trim();
+        if (value.matches("\\d+%")) {
+            int percent = Integer.parseInt(value.substring(0, value.length() - 1));
+            return (int) Math.ceil(instances * percent / 100.0);
+        }
+        return Integer.parseInt(value.matches("\\d+") ? value : DEFAULT_SERVER_MAX_SURGE);
+    }
+
+    /**
+     * ROLLING_UPDATE unless the Server stores its files in a PVC.
+     */
+    public static TrustifySpec.RolloutStrategyType getServerRolloutStrategyType(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().serverRolloutSpec())
+                .map(TrustifySpec.RolloutSpec::type)
+                .orElse(isFilesystemStorage(cr) ? TrustifySpec.RolloutStrategyType.RECREATE : TrustifySpec.RolloutStrategyType.ROLLING_UPDATE);
+    }
+
+    public static String getServerMaxSurge(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().serverRolloutSpec())
+                .map(TrustifySpec.RolloutSpec::maxSurge)
+                .orElse(DEFAULT_SERVER_MAX_SURGE);
+    }
+
+    /**
+     * Upper bound of the Importer pods, autoscaled instances count with their maximum.
+     */
+    public static int getMaxImporterInstances(Trustify cr) {
+        if (ImporterAutoscalerService.isEnabled(cr)) {
+            return ImporterAutoscalerService.getMaxReplicas(cr);
+        }
+        return Optional.ofNullable(cr.getSpec().importerInstances()).orElse(1);
+    }
+
+    public static boolean isFilesystemStorage(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().storageSpec())
+                .map(storageSpec -> Objects.isNull(storageSpec.type()) || Objects.equals(TrustifySpec.StorageStrategyType.FILESYSTEM, storageSpec.type()))
+                .orElse(true);
+    }
+
+    public static Optional<TrustifySpec.StorageCacheSpec> getStorageCacheSpec(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().storageSpec())
+                .filter(storageSpec -> Objects.equals(TrustifySpec.StorageStrategyType.S3, storageSpec.type()))
+                .map(TrustifySpec.StorageSpec::cacheSpec)
+                .filter(TrustifySpec.StorageCacheSpec::enabled);
+    }
+
+    public static String getStorageCacheSize(TrustifySpec.StorageCacheSpec cacheSpec) {
+        return Optional.ofNullable(cacheSpec.size()).orElse(DEFAULT_STORAGE_CACHE_SIZE);
+    }
+
+    public static TrustifySpec.StorageCacheType getStorageCacheType(TrustifySpec.StorageCacheSpec cacheSpec) {
+        return Optional.ofNullable(cacheSpec.type()).orElse(TrustifySpec.StorageCacheType.EMPTY_DIR);
+    }
+
+    public static boolean isSharedStorageCache(Trustify cr) {
+        return getStorageCacheSpec(cr)
+                .map(cacheSpec -> Objects.equals(TrustifySpec.StorageCacheType.SHARED, getStorageCacheType(cacheSpec)))
+                .orElse(false);
+    }
+
     public Optional<String> tlsSecretName(Trustify cr) {
         Optional<String> userDefinedTlsSecretName = CRDUtils.getValueFromSubSpec(cr.getSpec().httpSpec(), TrustifySpec.HttpSpec::tlsSecret);
         if (userDefinedTlsSecretName.isPresent()) {
@@ -14,12 +14,17 @@ import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
 import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.ShardFilter;
+import org.trustify.operator.metrics.MeasuredDependent;
+import org.trustify.operator.utils.AutoscalingUtils;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.Map;
 import java.util.Optional;
 
-@KubernetesDependent(labelSelector = UIDeployment.LABEL_SELECTOR, resourceDiscriminator = UIDeploymentDiscriminator.class)
+@KubernetesDependent(labelSelector = UIDeployment.LABEL_SELECTOR, resourceDiscriminator = UIDeploymentDiscriminator.class, genericFilter = ShardFilter.class)
 @ApplicationScoped
+@MeasuredDependent
 public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Trustify>
         implements Matcher<Deployment, Trustify>, Condition<Deployment, Trustify> {
 
@@ -39,14 +44,13 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        boolean matchDesiredInstances = getDesiredInstances(cr) == actual.getSpec().getReplicas();
+        boolean matchDesiredInstances = getDesiredInstances(cr, context) == actual.getSpec().getReplicas();
         if (!matchDesiredInstances) {
             return Result.nonComputed(false);
         }
 
-        ResourceConfigurator.Config config = uiDeploymentConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
-        return Result.nonComputed(match);
+        Deployment desired = desired(cr, context);
+        return Result.computed(CRDUtils.matchPodTemplateHash(desired, actual), desired);
     }
 
     @Override
@@ -63,12 +67,21 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                 .orElse(false);
     }
 
-    private int getDesiredInstances(Trustify cr) {
+    private int getDesiredInstances(Trustify cr, Context<Trustify> context) {
+        if (AutoscalingUtils.isEnabled(cr.getSpec().uiAutoscalingSpec())) {
+            // The HorizontalPodAutoscaler owns the replicas, the current value is kept
+            return context.getSecondaryResource(Deployment.class, new UIDeploymentDiscriminator())
+                    .map(deployment -> deployment.getSpec().getReplicas())
+                    .orElseGet(() -> AutoscalingUtils.getMinReplicas(cr.getSpec().uiAutoscalingSpec()));
+        }
+
         return Optional.ofNullable(cr.getSpec().uiInstances())
                 .orElse(1);
     }
 
     private Deployment newDeployment(Trustify cr, Context<Trustify> context) {
+        DeploymentSpec deploymentSpec = getDeploymentSpec(cr, context);
+
         return new DeploymentBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getDeploymentName(cr), LABEL_SELECTOR, cr))
@@ -79,21 +92,22 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                                 [{"apiVersion": "apps/v1", "kind":"Deployment", "name": "%s"}]
                                 """.formatted(ServerDeployment.getDeploymentName(cr))
                         ))
+                        .addToAnnotations(Constants.POD_TEMPLATE_HASH_ANNOTATION, CRDUtils.getPodTemplateHash(deploymentSpec.getTemplate()))
                         .build()
                 )
-                .withSpec(getDeploymentSpec(cr, context))
+                .withSpec(deploymentSpec)
                 .build();
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = uiDeploymentConfigurator.configureDeployment(cr, context);
+        ResourceConfigurator.Config config = uiDeploymentConfigurator.getConfig(cr, context);
 
         return new DeploymentSpecBuilder()
                 .withStrategy(new DeploymentStrategyBuilder()
                         .withType("Recreate")
                         .build()
                 )
-                .withReplicas(getDesiredInstances(cr))
+                .withReplicas(getDesiredInstances(cr, context))
                 .withSelector(new LabelSelectorBuilder()
                         .withMatchLabels(getPodSelectorLabels(cr))
                         .build()
@@ -106,6 +120,10 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                                 .withRestartPolicy("Always")
                                 .withTerminationGracePeriodSeconds(60L)
                                 .withImagePullSecrets(config.imagePullSecrets())
+                                .withNodeSelector(config.schedulingSpec().nodeSelector())
+                                .withTolerations(config.schedulingSpec().tolerations())
+                                .withAffinity(config.schedulingSpec().affinity())
+                                .withTopologySpreadConstraints(config.schedulingSpec().topologySpreadConstraints())
                                 .withContainers(new ContainerBuilder()
                                         .withName(Constants.TRUSTI_UI_NAME)
                                         .withImage(config.image())
@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
 
 @ApplicationScoped
 public class UIDeploymentConfigurator implements ResourceConfigurator {
@@ -46,11 +45,15 @@ public class UIDeploymentConfigurator implements ResourceConfigurator {
         TrustifySpec.ResourcesLimitSpec resourcesLimitSpec = cr.getSpec().uiResourceLimitSpec();
         ResourceRequirements resourceRequirements = CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
 
+        TrustifySpec.SchedulingSpec schedulingSpec = Optional.ofNullable(cr.getSpec().uiSchedulingSpec())
+                .orElse(new TrustifySpec.SchedulingSpec(null, null, null, null));
+
         Config config = new Config(
                 image,
                 imagePullPolicy,
                 imagePullSecrets,
                 resourceRequirements,
+                schedulingSpec,
                 new ArrayList<>(),
                 new ArrayList<>(),
                 new ArrayList<>()
@@ -83,11 +86,13 @@ public class UIDeploymentConfigurator implements ResourceConfigurator {
                                 ))
                                 .orElseGet(ArrayList::new);
                     } else {
-                        final AtomicReference<Keycloak> keycloakInstance = context.managedDependentResourceContext().getMandatory(Constants.KEYCLOAK, AtomicReference.class);
+                        final Keycloak keycloakInstance = context.managedDependentResourceContext().getMandatory(Constants.CONTEXT_KEYCLOAK_SERVER_SERVICE_KEY, KeycloakServerService.class)
+                                .getCurrentInstance(cr, context)
+                                .orElseThrow(() -> new IllegalStateException("Could not find the Keycloak instance"));
                         envVars = List.of(
                                 new EnvVarBuilder()
                                         .withName("OIDC_SERVER_URL")
-                                        .withValue(KeycloakServerService.getServiceUrl(cr, keycloakInstance.get()))
+                                        .withValue(KeycloakServerService.getServiceUrl(cr, keycloakInstance))
                                         .build(),
                                 new EnvVarBuilder()
                                         .withName("OIDC_CLIENT_ID")
@@ -0,0 +1,80 @@
+package org.trustify.operator.controllers;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.processing.event.source.filter.GenericFilter;
+import io.smallrye.config.SmallRyeConfig;
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.trustify.operator.TrustifyConfig;
+
+import java.util.Optional;
+
+/**
+ * Splits the watched namespaces across operator replicas. Every resource of a namespace (the Trustify CRs, their
+ * dependents and the OLM Subscription shared by all of them) is handled by the same replica, selected by the hash
+ * of the namespace name.
+ * JOSDK instantiates filters by reflection, so the configuration is looked up rather than injected.
+ */
+public class ShardFilter<R extends HasMetadata> implements GenericFilter<R> {
+
+    private final Optional<Shard> shard;
+
+    public ShardFilter() {
+        this(ConfigProvider.getConfig().unwrap(SmallRyeConfig.class).getConfigMapping(TrustifyConfig.class));
+    }
+
+    public ShardFilter(TrustifyConfig trustifyConfig) {
+        this.shard = getShard(trustifyConfig);
+    }
+
+    /**
+     * Checked by {@link org.trustify.operator.TrustifyOperatorProducer} before the controllers, and their filters,
+     * are registered so that an invalid configuration fails the startup with this message.
+     */
+    public static Optional<Shard> getShard(TrustifyConfig trustifyConfig) {
+        return trustifyConfig.shardingConfig()
+                .map(shardingConfig -> {
+                    int index = shardingConfig.shardIndex().orElseGet(() -> getPodOrdinal(System.getenv("HOSTNAME")));
+                    if (shardingConfig.shards() < 1 || index < 0 || index >= shardingConfig.shards()) {
+                        throw new IllegalStateException("Invalid sharding configuration: trustify.sharding.shards must be at least 1 and the shard index between 0 and shards - 1, got shard " + index + " of " + shardingConfig.shards());
+                    }
+                    return new Shard(shardingConfig.shards(), index);
+                });
+    }
+
+    @Override
+    public boolean accept(R resource) {
+        return shard
+                .map(value -> value.owns(resource.getMetadata().getNamespace()))
+                .orElse(true);
+    }
+
+    /**
+     * Replicas deployed as a StatefulSet are named "name-ordinal". Pods of a Deployment end with a random suffix,
+     * so every replica would get the same, or no, shard.
+     */
+    static int getPodOrdinal(String podName) {
+        String message = "trustify.sharding.shards is set but the shard index of pod " + podName + " can not be derived from its name. " +
+                "Deploy the operator as a StatefulSet with one replica per shard (the shards value of the Helm chart) or set trustify.sharding.shard-index";
+        if (podName == null) {
+            throw new IllegalStateException(message);
+        }
+        try {
+            return Integer.parseInt(podName.substring(podName.lastIndexOf('-') + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(message, e);
+        }
+    }
+
+    public record Shard(int shards, int index) {
+        public Shard {
+            if (shards < 1 || index < 0 || index >= shards) {
+                throw new IllegalArgumentException("Invalid shard " + index + " of " + shards);
+            }
+        }
+
+        boolean owns(String namespace) {
+            // String.hashCode is specified, so every replica computes the same shard
+            return Math.floorMod(namespace.hashCode(), shards) == index;
+        }
+    }
+}
@@ -1,11 +1,16 @@
 package org.trustify.operator.controllers;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
 import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.*;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.Dependent;
@@ -13,11 +18,10 @@ import io.javaoperatorsdk.operator.processing.event.source.EventSource;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
-import org.keycloak.k8s.v2alpha1.Keycloak;
-import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+import org.trustify.operator.cdrs.v2alpha1.importer.configmap.ImporterConfigMap;
 import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSet;
 import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSetReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSetReconcilePreCondition;
@@ -32,14 +36,28 @@ import org.trustify.operator.cdrs.v2alpha1.keycloak.db.secret.KeycloakDBSecret;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.db.secret.KeycloakDBSecretActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.db.service.KeycloakDBService;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.db.service.KeycloakDBServiceActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.realmimport.KeycloakRealm;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.realmimport.KeycloakRealmActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.realmimport.KeycloakRealmReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.server.KeycloakServer;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.server.KeycloakServerActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.server.KeycloakServerReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.server.KeycloakServerReconcilePreCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.subscription.KeycloakOperatorSubscription;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.subscription.KeycloakOperatorSubscriptionActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.keycloak.subscription.KeycloakOperatorSubscriptionReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.utils.KeycloakUtils;
 import org.trustify.operator.cdrs.v2alpha1.server.configmap.ServerConfigMap;
 import org.trustify.operator.cdrs.v2alpha1.server.configmap.ServerConfigMapReconcilePreCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMapActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
 import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBPersistentVolumeClaim;
 import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBPersistentVolumeClaimActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBWalPersistentVolumeClaim;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBWalPersistentVolumeClaimActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecret;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecretActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
@@ -47,29 +65,46 @@ import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBServiceActivation
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentReconcilePreCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.hpa.ServerHorizontalPodAutoscaler;
+import org.trustify.operator.cdrs.v2alpha1.server.hpa.ServerHorizontalPodAutoscalerActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJob;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJobDiscriminator;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJobReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJobReconcilePreCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment.DBPoolerDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment.DBPoolerDeploymentActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.deployment.DBPoolerDeploymentReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.service.DBPoolerService;
+import org.trustify.operator.cdrs.v2alpha1.server.pooler.service.DBPoolerServiceActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStorageCachePersistentVolumeClaim;
+import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStorageCachePersistentVolumeClaimActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStoragePersistentVolumeClaim;
 import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStoragePersistentVolumeClaimActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
 import org.trustify.operator.cdrs.v2alpha1.server.service.ServerServiceReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 import org.trustify.operator.cdrs.v2alpha1.ui.deployment.UIDeployment;
+import org.trustify.operator.cdrs.v2alpha1.ui.hpa.UIHorizontalPodAutoscaler;
+import org.trustify.operator.cdrs.v2alpha1.ui.hpa.UIHorizontalPodAutoscalerActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.ui.service.UIService;
+import org.trustify.operator.metrics.TrustifyMetrics;
 import org.trustify.operator.services.ClusterService;
+import org.trustify.operator.services.ImporterAutoscalerService;
 import org.trustify.operator.services.KeycloakOperatorService;
 import org.trustify.operator.services.KeycloakRealmService;
 import org.trustify.operator.services.KeycloakServerService;
+import org.trustify.operator.services.PersistentVolumeClaimService;
+import org.trustify.operator.utils.TrimmedItemStore;
 
 import java.time.Duration;
-import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
-
-import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT_NAMESPACE;
 
 @ControllerConfiguration(
-        namespaces = WATCH_CURRENT_NAMESPACE,
         name = "trustify",
+        genericFilter = ShardFilter.class,
         dependents = {
                 @Dependent(
                         name = "keycloak-db-pvc",
@@ -93,21 +128,52 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         type = KeycloakDBService.class,
                         activationCondition = KeycloakDBServiceActivationCondition.class
                 ),
+                @Dependent(
+                        name = "keycloak-subscription",
+                        type = KeycloakOperatorSubscription.class,
+                        activationCondition = KeycloakOperatorSubscriptionActivationCondition.class,
+                        readyPostcondition = KeycloakOperatorSubscriptionReadyPostCondition.class
+                ),
+                @Dependent(
+                        name = "keycloak-server",
+                        type = KeycloakServer.class,
+                        dependsOn = {"keycloak-subscription", "app-ingress"},
+                        activationCondition = KeycloakServerActivationCondition.class,
+                        reconcilePrecondition = KeycloakServerReconcilePreCondition.class,
+                        readyPostcondition = KeycloakServerReadyPostCondition.class
+                ),
+                @Dependent(
+                        name = "keycloak-realm",
+                        type = KeycloakRealm.class,
+                        dependsOn = {"keycloak-server"},
+                        activationCondition = KeycloakRealmActivationCondition.class,
+                        readyPostcondition = KeycloakRealmReadyPostCondition.class
+                ),
 
                 @Dependent(
                         name = "db-pvc",
                         type = DBPersistentVolumeClaim.class,
                         activationCondition = DBPersistentVolumeClaimActivationCondition.class
                 ),
+                @Dependent(
+                        name = "db-wal-pvc",
+                        type = DBWalPersistentVolumeClaim.class,
+                        activationCondition = DBWalPersistentVolumeClaimActivationCondition.class
+                ),
                 @Dependent(
                         name = "db-secret",
                         type = DBSecret.class,
                         activationCondition = DBSecretActivationCondition.class
                 ),
+                @Dependent(
+                        name = "db-configmap",
+                        type = DBConfigMap.class,
+                        activationCondition = DBConfigMapActivationCondition.class
+                ),
                 @Dependent(
                         name = "db-deployment",
                         type = DBDeployment.class,
-                        dependsOn = {"db-pvc", "db-secret"},
+                        dependsOn = {"db-pvc", "db-secret", "db-configmap"},
                         activationCondition = DBDeploymentActivationCondition.class,
                         readyPostcondition = DBDeploymentReadyPostCondition.class
                 ),
@@ -116,33 +182,67 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         type = DBService.class,
                         activationCondition = DBServiceActivationCondition.class
                 ),
+                @Dependent(
+                        name = "db-pooler-deployment",
+                        type = DBPoolerDeployment.class,
+                        activationCondition = DBPoolerDeploymentActivationCondition.class,
+                        readyPostcondition = DBPoolerDeploymentReadyPostCondition.class
+                ),
+                @Dependent(
+                        name = "db-pooler-service",
+                        type = DBPoolerService.class,
+                        activationCondition = DBPoolerServiceActivationCondition.class
+                ),
 
                 @Dependent(
                         name = "server-pvc",
                         type = ServerStoragePersistentVolumeClaim.class,
                         activationCondition = ServerStoragePersistentVolumeClaimActivationCondition.class
                 ),
+                @Dependent(
+                        name = "server-cache-pvc",
+                        type = ServerStorageCachePersistentVolumeClaim.class,
+                        activationCondition = ServerStorageCachePersistentVolumeClaimActivationCondition.class
+                ),
                 @Dependent(
                         name = "server-configmap",
                         type = ServerConfigMap.class,
                         reconcilePrecondition = ServerConfigMapReconcilePreCondition.class
                 ),
+                @Dependent(
+                        name = "server-migration-job",
+                        type = ServerMigrationJob.class,
+                        reconcilePrecondition = ServerMigrationJobReconcilePreCondition.class,
+                        readyPostcondition = ServerMigrationJobReadyPostCondition.class
+                ),
                 @Dependent(
                         name = "server-deployment",
                         type = ServerDeployment.class,
-                        dependsOn = {"server-configmap", "server-service"},
+                        dependsOn = {"server-configmap", "server-service", "server-migration-job"},
                         reconcilePrecondition = ServerDeploymentReconcilePreCondition.class,
                         readyPostcondition = ServerDeploymentReadyPostCondition.class
                 ),
+                @Dependent(
+                        name = "server-hpa",
+                        type = ServerHorizontalPodAutoscaler.class,
+                        dependsOn = {"server-deployment"},
+                        activationCondition = ServerHorizontalPodAutoscalerActivationCondition.class
+                ),
                 @Dependent(
                         name = "server-service",
                         type = ServerService.class,
                         readyPostcondition = ServerServiceReadyPostCondition.class
                 ),
 
+                @Dependent(
+                        name = "importer-configmap",
+                        type = ImporterConfigMap.class,
+                        reconcilePrecondition = ImporterStatefulSetReconcilePreCondition.class
+                ),
                 @Dependent(
                         name = "importer-stateful-set",
                         type = ImporterStatefulSet.class,
+                        dependsOn = {"importer-configmap"},
                         reconcilePrecondition = ImporterStatefulSetReconcilePreCondition.class,
                         readyPostcondition = ImporterStatefulSetReadyPostCondition.class
                 ),
@@ -153,6 +253,12 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         dependsOn = {"server-deployment"},
                         readyPostcondition = UIDeployment.class
                 ),
+                @Dependent(
+                        name = "ui-hpa",
+                        type = UIHorizontalPodAutoscaler.class,
+                        dependsOn = {"ui-deployment"},
+                        activationCondition = UIHorizontalPodAutoscalerActivationCondition.class
+                ),
                 @Dependent(
                         name = "ui-service",
                         type = UIService.class
@@ -175,6 +281,10 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
     public static final String DEPLOYMENT_EVENT_SOURCE = "deploymentSource";
     public static final String SERVICE_EVENT_SOURCE = "serviceSource";
     public static final String STATEFUL_SET_EVENT_SOURCE = "statefulSetSource";
+    public static final String JOB_EVENT_SOURCE = "jobSource";
+    public static final String HORIZONTAL_POD_AUTOSCALER_EVENT_SOURCE = "horizontalPodAutoscalerSource";
+    public static final String POD_EVENT_SOURCE = "podSource";
+    public static final String CLUSTER_SERVICE_VERSION_EVENT_SOURCE = "clusterServiceVersionSource";
 
     @Inject
     ClusterService clusterService;
@@ -188,101 +298,63 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
     @Inject
     KeycloakRealmService keycloakRealmService;
 
-    AtomicReference<Keycloak> keycloakInstance = new AtomicReference<>();
-    AtomicReference<KeycloakRealmImport> keycloakRealmImportInstance = new AtomicReference<>();
+    @Inject
+    ImporterAutoscalerService importerAutoscalerService;
+
+    @Inject
+    PersistentVolumeClaimService persistentVolumeClaimService;
+
+    @Inject
+    TrustifyMetrics metrics;
 
     @Override
     public void initContext(Trustify cr, Context<Trustify> context) {
         context.managedDependentResourceContext().put(Constants.CLUSTER_SERVICE, clusterService);
+        context.managedDependentResourceContext().put(Constants.CONTEXT_KEYCLOAK_OPERATOR_SERVICE_KEY, keycloakOperatorService);
         context.managedDependentResourceContext().put(Constants.CONTEXT_KEYCLOAK_SERVER_SERVICE_KEY, keycloakServerService);
         context.managedDependentResourceContext().put(Constants.CONTEXT_KEYCLOAK_REALM_SERVICE_KEY, keycloakRealmService);
-
-        context.managedDependentResourceContext().put(Constants.KEYCLOAK, keycloakInstance);
-        context.managedDependentResourceContext().put(Constants.KEYCLOAK_REALM_IMPORT, keycloakRealmImportInstance);
+        context.managedDependentResourceContext().put(Constants.CONTEXT_IMPORTER_AUTOSCALER_SERVICE_KEY, importerAutoscalerService);
     }
 
     @Override
     public UpdateControl<Trustify> reconcile(Trustify cr, Context<Trustify> context) {
-        Optional<UpdateControl<Trustify>> kcUpdateControl = createOrUpdateKeycloakResources(cr, context);
-        if (kcUpdateControl.isPresent()) {
-            return kcUpdateControl.get();
-        }
-
         return createOrUpdateDependantResources(cr, context);
     }
 
-    private Optional<UpdateControl<Trustify>> createOrUpdateKeycloakResources(Trustify cr, Context<Trustify> context) {
-        boolean isKcRequired = KeycloakUtils.isKeycloakRequired(cr);
-        if (isKcRequired) {
-            // Keycloak Operator
-            boolean kcSubscriptionExists = keycloakOperatorService.getCurrentInstance(cr).isPresent();
-            if (!kcSubscriptionExists) {
-                logger.info("Installing Keycloak Operator");
-                keycloakOperatorService.createSubscription(cr);
-            }
-
-            AbstractMap.SimpleEntry<Boolean, String> subscriptionReady = keycloakOperatorService.isSubscriptionReady(cr);
-            if (!subscriptionReady.getKey()) {
-                logger.infof("Waiting for the Keycloak Operator to be ready: %s", subscriptionReady.getValue());
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
-            }
-
-            // Keycloak dependencies
-            KeycloakDBDeploymentActivationCondition keycloakDBActivationCondition = new KeycloakDBDeploymentActivationCondition();
-            boolean isKeycloakDBEnabled = keycloakDBActivationCondition.isMet(null, cr, context);
-            if (isKeycloakDBEnabled) {
-                KeycloakDBDeploymentReadyPostCondition keycloakDBDeploymentReadyCondition = new KeycloakDBDeploymentReadyPostCondition();
-                boolean isKeycloakDBReady = keycloakDBDeploymentReadyCondition.isMet(null, cr, context);
-                if (!isKeycloakDBReady) {
-                    logger.info("Waiting for the Keycloak DB to be ready");
-                    return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
-                }
-            }
-
-            AppIngressReadyPostCondition appIngressReadyPostCondition = new AppIngressReadyPostCondition();
-            boolean isIngressReady = appIngressReadyPostCondition.isMet(null, cr, context);
-            if (!isIngressReady) {
-                logger.info("Waiting for the Ingress to be ready");
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
-            }
-
-            // Keycloak Server
-            Keycloak kcInstance = keycloakServerService.getCurrentInstance(cr)
-                    .orElseGet(() -> {
-                        logger.info("Creating a Keycloak Server");
-                        return keycloakServerService.initInstance(cr, context);
-                    });
-            boolean isKcInstanceReady = KeycloakUtils.isKeycloakServerReady(kcInstance);
-            if (!isKcInstanceReady) {
-                logger.info("Waiting for the Keycloak Server to be ready");
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
-            } else {
-                keycloakInstance.set(kcInstance);
-            }
-
-            // Keycloak Realm
-            KeycloakRealmImport realmImportInstance = keycloakRealmService.getCurrentInstance(cr)
-                    .orElseGet(() -> {
-                        logger.info("Creating a KeycloakRealmImport");
-                        return keycloakRealmService.initInstance(cr);
-                    });
-            boolean isRealmImportInstanceReady = KeycloakUtils.isKeycloakRealmImportReady(realmImportInstance);
-            if (!isRealmImportInstanceReady) {
-                logger.info("Waiting for the KeycloakRealmImport to be ready");
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
-            } else {
-                keycloakRealmImportInstance.set(realmImportInstance);
-            }
-        }
-
-        return Optional.empty();
-    }
-
     private UpdateControl<Trustify> createOrUpdateDependantResources(Trustify cr, Context<Trustify> context) {
         return context.managedDependentResourceContext()
                 .getWorkflowReconcileResult()
                 .map(wrs -> {
+                    context.getSecondaryResource(Job.class, new ServerMigrationJobDiscriminator())
+                            .map(ServerMigrationJob::getMigrationStatus)
+                            .ifPresent(migrationStatus -> cr.getStatus().setMigration(migrationStatus));
+                    cr.getStatus().setImporterPods(ImporterStatefulSet.getPodStatus(cr, context));
+                    cr.getStatus().setDatabaseConnections(ServerUtils.isDBPoolAutoSized(cr) ? ServerUtils.getDBConnectionsStatus(cr) : null);
+                    cr.getStatus().setVolumes(PersistentVolumeClaimService.getVolumeStatus(cr, context));
+
+                    TrustifyStatusCondition resizing = new TrustifyStatusCondition();
+                    resizing.setType(TrustifyStatusCondition.RESIZING);
+                    resizing.setStatus(Optional.ofNullable(cr.getStatus().getVolumes()).stream()
+                            .flatMap(Collection::stream)
+                            .anyMatch(volumeStatus -> volumeStatus.getResizeStatus() != null)
+                    );
+                    cr.getStatus().setCondition(resizing);
+
+                    TrustifyStatusCondition expansionUnsupported = new TrustifyStatusCondition();
+                    expansionUnsupported.setType(TrustifyStatusCondition.VOLUME_EXPANSION_UNSUPPORTED);
+                    expansionUnsupported.setStatus(persistentVolumeClaimService.isExpansionUnsupported(cr, context));
+                    cr.getStatus().setCondition(expansionUnsupported);
+
+                    // An invalid max_connections falls back to the default instead of failing the reconciliation
+                    TrustifyStatusCondition invalidDatabaseParameters = new TrustifyStatusCondition();
+                    invalidDatabaseParameters.setType(TrustifyStatusCondition.INVALID_DATABASE_PARAMETERS);
+                    invalidDatabaseParameters.setStatus(!DBConfigMap.isMaxConnectionsValid(cr));
+                    cr.getStatus().setCondition(invalidDatabaseParameters);
+
                     if (wrs.allDependentResourcesReady()) {
+                        if (!cr.getStatus().isAvailable()) {
+                            metrics.ready(cr);
+                        }
                         if (cr.getStatus().isAvailable()) {
                             logger.infof("Trustify %s is ready to be used", cr.getMetadata().getName());
                         }
@@ -293,6 +365,10 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
 
                         cr.getStatus().setCondition(status);
 
+                        // The backlog is polled, nothing else triggers a reconciliation when it grows
+                        if (ImporterAutoscalerService.isEnabled(cr)) {
+                            return UpdateControl.updateStatus(cr).rescheduleAfter(ImporterAutoscalerService.getPollingInterval(cr));
+                        }
                         return UpdateControl.updateStatus(cr);
                     } else {
                         TrustifyStatusCondition status = new TrustifyStatusCondition();
@@ -301,6 +377,8 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
 
                         cr.getStatus().setCondition(status);
 
+                        metrics.rescheduled(cr);
+
                         final var duration = Duration.ofSeconds(5);
                         return UpdateControl.updateStatus(cr).rescheduleAfter(duration);
                     }
@@ -310,35 +388,71 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
 
     @Override
     public DeleteControl cleanup(Trustify cr, Context<Trustify> context) {
-        keycloakRealmService.cleanupDependentResources(cr);
-        keycloakServerService.cleanupDependentResources(cr);
+        keycloakRealmService.cleanupDependentResources(cr, context);
+        keycloakServerService.cleanupDependentResources(cr, context);
+
+        importerAutoscalerService.forget(cr);
+        persistentVolumeClaimService.forget(cr);
+        metrics.forget(cr);
 
         return DeleteControl.defaultDelete();
     }
 
     @Override
     public Map<String, EventSource> prepareEventSources(EventSourceContext<Trustify> context) {
-        var configMapInformerConfiguration = InformerConfiguration.from(ConfigMap.class, context).build();
-        var pcvInformerConfiguration = InformerConfiguration.from(PersistentVolumeClaim.class, context).build();
-        var secretInformerConfiguration = InformerConfiguration.from(Secret.class, context).build();
-        var deploymentInformerConfiguration = InformerConfiguration.from(Deployment.class, context).build();
-        var serviceInformerConfiguration = InformerConfiguration.from(Service.class, context).build();
-        var statefulSetInformerConfiguration = InformerConfiguration.from(StatefulSet.class, context).build();
-
-        var configMapInformerConfigurationInformerEventSource = new InformerEventSource<>(configMapInformerConfiguration, context);
-        var pcvInformerEventSource = new InformerEventSource<>(pcvInformerConfiguration, context);
-        var secretInformerEventSource = new InformerEventSource<>(secretInformerConfiguration, context);
-        var deploymentInformerEventSource = new InformerEventSource<>(deploymentInformerConfiguration, context);
-        var serviceInformerEventSource = new InformerEventSource<>(serviceInformerConfiguration, context);
-        var statefulSetInformerEventSource = new InformerEventSource<>(statefulSetInformerConfiguration, context);
-
-        return Map.of(
+        // Only the resources created by the operator are cached. Services are the only ones matched through
+        // Server Side Apply, so they are the only ones that need to keep their managedFields.
+        var configMapInformerConfigurationInformerEventSource = managedResourcesEventSource(ConfigMap.class, false, context);
+        var pcvInformerEventSource = managedResourcesEventSource(PersistentVolumeClaim.class, false, context);
+        var secretInformerEventSource = managedResourcesEventSource(Secret.class, false, context);
+        var deploymentInformerEventSource = managedResourcesEventSource(Deployment.class, false, context);
+        var serviceInformerEventSource = managedResourcesEventSource(Service.class, true, context);
+        var statefulSetInformerEventSource = managedResourcesEventSource(StatefulSet.class, false, context);
+        var jobInformerEventSource = managedResourcesEventSource(Job.class, false, context);
+        var horizontalPodAutoscalerInformerEventSource = managedResourcesEventSource(HorizontalPodAutoscaler.class, false, context);
+        // Only the importer pods are labeled as managed. They are owned by the StatefulSet, so their events are
+        // not delivered to the Trustify instance. The cache is read when the status is computed.
+        var podInformerEventSource = managedResourcesEventSource(Pod.class, false, context);
+
+        Map<String, EventSource> eventSources = new HashMap<>(Map.of(
                 CONFIG_MAP_EVENT_SOURCE, configMapInformerConfigurationInformerEventSource,
                 PVC_EVENT_SOURCE, pcvInformerEventSource,
                 SECRET_EVENT_SOURCE, secretInformerEventSource,
                 DEPLOYMENT_EVENT_SOURCE, deploymentInformerEventSource,
                 SERVICE_EVENT_SOURCE, serviceInformerEventSource,
-                STATEFUL_SET_EVENT_SOURCE, statefulSetInformerEventSource
-        );
+                STATEFUL_SET_EVENT_SOURCE, statefulSetInformerEventSource,
+                JOB_EVENT_SOURCE, jobInformerEventSource,
+                HORIZONTAL_POD_AUTOSCALER_EVENT_SOURCE, horizontalPodAutoscalerInformerEventSource,
+                POD_EVENT_SOURCE, podInformerEventSource
+        ));
+
+        // Informers can only be started for CRDs that exist. The Subscription, Keycloak and KeycloakRealmImport
+        // informers belong to their dependents, which register them once activated.
+        if (clusterService.isOlmInstalled()) {
+            eventSources.put(CLUSTER_SERVICE_VERSION_EVENT_SOURCE, clusterServiceVersionEventSource(context));
+        }
+
+        return eventSources;
+    }
+
+    private static <R extends HasMetadata> InformerEventSource<R, Trustify> managedResourcesEventSource(Class<R> resourceType, boolean keepManagedFields, EventSourceContext<Trustify> context) {
+        var informerConfiguration = InformerConfiguration.from(resourceType, context)
+                .withLabelSelector(Constants.MANAGED_BY_LABEL_SELECTOR)
+                .withGenericFilter(new ShardFilter<>())
+                .withItemStore(new TrimmedItemStore<>(keepManagedFields))
+                .build();
+        return new InformerEventSource<>(informerConfiguration, context);
+    }
+
+    /**
+     * CSVs are not sharded: OLM can copy them across namespaces, and the primary cache only holds the instances of
+     * this shard anyway.
+     */
+    private static InformerEventSource<ClusterServiceVersion, Trustify> clusterServiceVersionEventSource(EventSourceContext<Trustify> context) {
+        var clusterServiceVersionInformerConfiguration = InformerConfiguration.from(ClusterServiceVersion.class, context)
+                .withSecondaryToPrimaryMapper(csv -> KeycloakUtils.getKeycloakPrimaries(context.getPrimaryCache(), csv.getMetadata().getNamespace()))
+                .withGenericFilter(csv -> KeycloakOperatorService.isKeycloakOperatorResource(csv.getMetadata().getName()))
+                .build();
+        return new InformerEventSource<>(clusterServiceVersionInformerConfiguration, context);
     }
 }
@@ -0,0 +1,17 @@
+package org.trustify.operator.metrics;
+
+import jakarta.interceptor.InterceptorBinding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Times the desired, match, create and update operations of a dependent resource.
+ */
+@InterceptorBinding
+@Target({ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MeasuredDependent {
+}
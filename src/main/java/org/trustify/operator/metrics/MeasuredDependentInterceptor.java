@@ -0,0 +1,44 @@
+package org.trustify.operator.metrics;
+
+import io.quarkus.arc.Subclass;
+import jakarta.annotation.Priority;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+
+import java.util.Map;
+import java.util.Objects;
+
+@MeasuredDependent
+@Interceptor
+@Priority(Interceptor.Priority.APPLICATION)
+public class MeasuredDependentInterceptor {
+
+    // Operation name and arity of the overloads called by the workflow, the other overloads delegate to them
+    private static final Map<String, Integer> OPERATIONS = Map.of(
+            "desired", 2,
+            "match", 3,
+            "create", 3,
+            "update", 4
+    );
+
+    @Inject
+    TrustifyMetrics metrics;
+
+    @AroundInvoke
+    Object measure(InvocationContext context) throws Exception {
+        String operation = context.getMethod().getName();
+        if (!Objects.equals(OPERATIONS.get(operation), context.getParameters().length)) {
+            return context.proceed();
+        }
+        return metrics.timeDependent(getDependentName(context.getTarget()), operation, context::proceed);
+    }
+
+    private static String getDependentName(Object target) {
+        // Intercepted beans are generated subclasses of the dependent
+        Class<?> dependentClass = target instanceof Subclass ? target.getClass().getSuperclass() : target.getClass();
+        return dependentClass.getSimpleName();
+    }
+
+}
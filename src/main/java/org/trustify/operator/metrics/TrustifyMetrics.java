@@ -0,0 +1,107 @@
+package org.trustify.operator.metrics;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@ApplicationScoped
+public class TrustifyMetrics {
+
+    public static final String DEPENDENT_TIMER = "trustify.operator.dependent";
+    public static final String API_CALLS_COUNTER = "trustify.operator.api.calls";
+    public static final String TIME_TO_READY_GAUGE = "trustify.operator.time.to.ready";
+    public static final String RESCHEDULED_COUNTER = "trustify.operator.reconcile.rescheduled";
+
+    @Inject
+    MeterRegistry registry;
+
+    private final Map<ResourceID, AtomicLong> timeToReady = new ConcurrentHashMap<>();
+
+    /**
+     * Times an operation (desired, match, create or update) of a dependent resource.
+     */
+    public <T> T timeDependent(String dependent, String operation, Callable<T> callable) throws Exception {
+        Timer timer = Timer.builder(DEPENDENT_TIMER)
+                .description("Time spent by the dependent resources of the Trustify workflow")
+                .tags("dependent", dependent, "operation", operation)
+                .register(registry);
+        return timer.recordCallable(callable);
+    }
+
+    /**
+     * Counts a request sent to the API server by the operator code, outside the informers of the event sources.
+     * The requests sent by JOSDK to create, update or delete the dependents are not counted, they are measured by
+     * the create and update timers of the dependents instead.
+     */
+    public void apiCall(Class<?> caller, String verb) {
+        Counter.builder(API_CALLS_COUNTER)
+                .description("Requests sent to the API server")
+                .tags("service", caller.getSimpleName(), "verb", verb)
+                .register(registry)
+                .increment();
+    }
+
+    public void rescheduled(Trustify cr) {
+        Counter.builder(RESCHEDULED_COUNTER)
+                .description("Reconciliations rescheduled because the dependent resources were not ready")
+                .tags(tags(cr))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * Records the time elapsed between the creation of the CR and the first time all its dependents were ready.
+     */
+    public void ready(Trustify cr) {
+        Optional<Instant> creationTimestamp = Optional.ofNullable(cr.getMetadata().getCreationTimestamp())
+                .map(timestamp -> ZonedDateTime.parse(timestamp).toInstant());
+        if (creationTimestamp.isEmpty()) {
+            return;
+        }
+
+        AtomicLong seconds = timeToReady.computeIfAbsent(ResourceID.fromResource(cr), resourceID -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(TIME_TO_READY_GAUGE, value, AtomicLong::get)
+                    .description("Seconds from the creation of the CR until all its dependents were ready")
+                    .baseUnit("seconds")
+                    .tags(tags(cr))
+                    .register(registry);
+            return value;
+        });
+        seconds.set(Duration.between(creationTimestamp.get(), Instant.now()).toSeconds());
+    }
+
+    public void forget(Trustify cr) {
+        timeToReady.remove(ResourceID.fromResource(cr));
+
+        Tags tags = tags(cr);
+        List<Meter> meters = registry.getMeters().stream()
+                .filter(meter -> meter.getId().getName().equals(TIME_TO_READY_GAUGE) || meter.getId().getName().equals(RESCHEDULED_COUNTER))
+                .filter(meter -> tags.stream().allMatch(tag -> tag.getValue().equals(meter.getId().getTag(tag.getKey()))))
+                .toList();
+        meters.forEach(registry::remove);
+    }
+
+    private static Tags tags(HasMetadata cr) {
+        return Tags.of("namespace", cr.getMetadata().getNamespace(), "name", cr.getMetadata().getName());
+    }
+
+}
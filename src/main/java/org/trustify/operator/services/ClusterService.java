@@ -4,6 +4,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.trustify.operator.metrics.TrustifyMetrics;
 
 @ApplicationScoped
 public class ClusterService {
@@ -11,19 +12,30 @@ public class ClusterService {
     @Inject
     KubernetesClient k8sClient;
 
+    @Inject
+    TrustifyMetrics metrics;
+
     private Cluster cluster;
 
+    private boolean olmInstalled;
+
     @PostConstruct
     void init() {
         boolean isOpenshift = k8sClient.supports("route.openshift.io/v1", "Route");
         if (isOpenshift) {
-            cluster = new OpenshiftCluster(k8sClient);
+            cluster = new OpenshiftCluster(k8sClient, metrics);
         } else {
             cluster = new VanillaCluster(k8sClient);
         }
+
+        olmInstalled = k8sClient.supports("operators.coreos.com/v1alpha1", "ClusterServiceVersion");
     }
 
     public Cluster getCluster() {
         return cluster;
     }
+
+    public boolean isOlmInstalled() {
+        return olmInstalled;
+    }
 }
@@ -0,0 +1,243 @@
+package org.trustify.operator.services;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSetDiscriminator;
+import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
+import org.trustify.operator.metrics.TrustifyMetrics;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Recommends the number of importers from the ingestion backlog, read either from the Server
+ * infrastructure endpoint or from Prometheus.
+ * Scaling up is immediate, scaling down waits until the lower recommendation held for the cooldown period.
+ */
+@ApplicationScoped
+public class ImporterAutoscalerService {
+
+    private static final Logger logger = Logger.getLogger(ImporterAutoscalerService.class);
+
+    public static final int DEFAULT_MIN_REPLICAS = 0;
+    public static final int DEFAULT_MAX_REPLICAS = 3;
+    public static final int DEFAULT_TARGET_BACKLOG = 10;
+    public static final int DEFAULT_POLLING_INTERVAL = 30;
+    public static final int DEFAULT_COOLDOWN_PERIOD = 300;
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Inject
+    TrustifyMetrics metrics;
+
+    @Inject
+    ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    /**
+     * @param sampledAt        when the backlog was last read
+     * @param notScaledDownAt  last time the recommendation was not lower than the current replicas
+     */
+    record Recommendation(int replicas, Instant sampledAt, Instant notScaledDownAt) {
+    }
+
+    private final Map<ResourceID, Recommendation> recommendations = new ConcurrentHashMap<>();
+
+    /**
+     * A ReentrantLock rather than synchronized, a virtual thread blocked on the HTTP call would pin its carrier.
+     */
+    private final Map<ResourceID, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    public static boolean isEnabled(Trustify cr) {
+        return cr.getSpec().importerAutoscalingSpec() != null && cr.getSpec().importerAutoscalingSpec().enabled();
+    }
+
+    public static Duration getPollingInterval(Trustify cr) {
+        return Duration.ofSeconds(Optional.ofNullable(cr.getSpec().importerAutoscalingSpec().pollingInterval()).orElse(DEFAULT_POLLING_INTERVAL));
+    }
+
+    public static int getMinReplicas(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().importerAutoscalingSpec().minReplicas()).orElse(DEFAULT_MIN_REPLICAS);
+    }
+
+    public static int getMaxReplicas(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().importerAutoscalingSpec().maxReplicas()).orElse(Math.max(getMinReplicas(cr), DEFAULT_MAX_REPLICAS));
+    }
+
+    public int getDesiredReplicas(Trustify cr, Context<Trustify> context) {
+        TrustifySpec.ImporterAutoscalingSpec spec = cr.getSpec().importerAutoscalingSpec();
+        int minReplicas = getMinReplicas(cr);
+        int maxReplicas = getMaxReplicas(cr);
+        int targetBacklog = Math.max(1, Optional.ofNullable(spec.targetBacklog()).orElse(DEFAULT_TARGET_BACKLOG));
+        Duration cooldownPeriod = Duration.ofSeconds(Optional.ofNullable(spec.cooldownPeriod()).orElse(DEFAULT_COOLDOWN_PERIOD));
+
+        // The backlog is read outside the map, the dependents of one reconciliation share the sample
+        ResourceID resourceID = ResourceID.fromResource(cr);
+        ReentrantLock lock = locks.computeIfAbsent(resourceID, key -> new ReentrantLock());
+        lock.lock();
+        try {
+            Instant now = Instant.now();
+            Recommendation previous = recommendations.get(resourceID);
+            if (previous != null && previous.sampledAt().plus(getPollingInterval(cr)).isAfter(now)) {
+                return previous.replicas();
+            }
+
+            int currentReplicas = Optional.ofNullable(previous)
+                    .map(Recommendation::replicas)
+                    .or(() -> context.getSecondaryResource(StatefulSet.class, new ImporterStatefulSetDiscriminator())
+                            .map(statefulSet -> statefulSet.getSpec().getReplicas())
+                    )
+                    .orElse(minReplicas);
+            Instant notScaledDownAt = Optional.ofNullable(previous)
+                    .map(Recommendation::notScaledDownAt)
+                    .orElse(now);
+
+            OptionalDouble backlog = readBacklog(cr, spec);
+            Recommendation recommendation = recommend(currentReplicas, notScaledDownAt, backlog, minReplicas, maxReplicas, targetBacklog, cooldownPeriod, now);
+            if (backlog.isPresent() && recommendation.replicas() < currentReplicas) {
+                logger.infof("Scaling importers of %s/%s down from %d to %d, backlog is %s",
+                        cr.getMetadata().getNamespace(), cr.getMetadata().getName(), currentReplicas, recommendation.replicas(), backlog.getAsDouble());
+            }
+            recommendations.put(resourceID, recommendation);
+            return recommendation.replicas();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Scaling up follows the backlog right away. Scaling down only happens once the backlog stayed low for the
+     * whole cooldown period, and the replicas are kept when the backlog could not be read.
+     */
+    static Recommendation recommend(int currentReplicas, Instant notScaledDownAt, OptionalDouble backlog,
+                                    int minReplicas, int maxReplicas, int targetBacklog, Duration cooldownPeriod, Instant now) {
+        if (backlog.isEmpty()) {
+            return new Recommendation(clamp(currentReplicas, minReplicas, maxReplicas), now, notScaledDownAt);
+        }
+
+        int replicas = clamp((int) Math.ceil(backlog.getAsDouble() / targetBacklog), minReplicas, maxReplicas);
+        if (replicas >= currentReplicas) {
+            return new Recommendation(replicas, now, now);
+        }
+        if (notScaledDownAt.plus(cooldownPeriod).isAfter(now)) {
+            return new Recommendation(currentReplicas, now, notScaledDownAt);
+        }
+        return new Recommendation(replicas, now, now);
+    }
+
+    public void forget(Trustify cr) {
+        recommendations.remove(ResourceID.fromResource(cr));
+        locks.remove(ResourceID.fromResource(cr));
+    }
+
+    private OptionalDouble readBacklog(Trustify cr, TrustifySpec.ImporterAutoscalingSpec spec) {
+        try {
+            if (spec.prometheusUrl() != null && spec.prometheusQuery() != null) {
+                return queryPrometheus(spec.prometheusUrl(), spec.prometheusQuery());
+            }
+            if (spec.metric() != null) {
+                return scrapeServer(cr, spec.metric());
+            }
+            logger.warnf("Importer autoscaling of %s/%s has neither a metric nor a prometheusUrl and prometheusQuery",
+                    cr.getMetadata().getNamespace(), cr.getMetadata().getName());
+        } catch (IOException e) {
+            logger.warnf("Could not read the importer backlog of %s/%s: %s",
+                    cr.getMetadata().getNamespace(), cr.getMetadata().getName(), e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return OptionalDouble.empty();
+    }
+
+    private OptionalDouble scrapeServer(Trustify cr, String metric) throws IOException, InterruptedException {
+        String url = String.format("http://%s.%s.svc:%s/metrics",
+                ServerService.getServiceName(cr), cr.getMetadata().getNamespace(), ServerService.getServiceInfrastructurePort(cr)
+        );
+        return parseMetric(get(url), metric);
+    }
+
+    private OptionalDouble queryPrometheus(String prometheusUrl, String query) throws IOException, InterruptedException {
+        String url = prometheusUrl.replaceAll("/+$", "") + "/api/v1/query?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8);
+        JsonNode result = objectMapper.readTree(get(url)).path("data").path("result");
+        if (!result.isArray() || result.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        // Instant vectors hold [timestamp, "value"]
+        return OptionalDouble.of(Double.parseDouble(result.get(0).path("value").path(1).asText()));
+    }
+
+    private String get(String url) throws IOException, InterruptedException {
+        metrics.apiCall(ImporterAutoscalerService.class, "get");
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(url))
+                        .timeout(TIMEOUT)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + url + " returned " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    /**
+     * Sums every series of the metric in the Prometheus text exposition format.
+     */
+    static OptionalDouble parseMetric(String body, String metric) {
+        boolean found = false;
+        double sum = 0;
+        for (String line : body.split("\n")) {
+            if (line.startsWith("#") || !line.startsWith(metric)) {
+                continue;
+            }
+
+            String rest = line.substring(metric.length());
+            if (rest.startsWith("{")) {
+                int labelsEnd = rest.lastIndexOf('}');
+                if (labelsEnd < 0) {
+                    continue;
+                }
+                rest = rest.substring(labelsEnd + 1);
+            } else if (!rest.startsWith(" ")) {
+                // Another metric sharing the same prefix
+                continue;
+            }
+
+            String[] valueAndTimestamp = rest.trim().split("\\s+");
+            try {
+                sum += Double.parseDouble(valueAndTimestamp[0]);
+                found = true;
+            } catch (NumberFormatException e) {
+                logger.debugf("Ignoring sample %s", line);
+            }
+        }
+        return found ? OptionalDouble.of(sum) : OptionalDouble.empty();
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -1,23 +1,27 @@
 package org.trustify.operator.services;
 
-import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.openshift.api.model.operatorhub.v1.OperatorGroup;
 import io.fabric8.openshift.api.model.operatorhub.v1.OperatorGroupBuilder;
 import io.fabric8.openshift.api.model.operatorhub.v1alpha1.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.metrics.TrustifyMetrics;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.AbstractMap;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 @ApplicationScoped
 public class KeycloakOperatorService {
 
+    public static final String KEYCLOAK_OPERATOR_NAME = "keycloak-operator";
+
     @Inject
     KubernetesClient k8sClient;
 
@@ -27,41 +31,42 @@ public class KeycloakOperatorService {
     @Inject
     ClusterService clusterService;
 
-    private Subscription subscription(Trustify cr) {
+    @Inject
+    TrustifyMetrics metrics;
+
+    public Subscription initInstance(Trustify cr) {
         TrustifyConfig.KeycloakSubscriptionConfig subscriptionConfig = trustifyConfig.keycloakSubscriptionConfig()
                 .orElseGet(() -> clusterService.getCluster().getKeycloakSubscriptionConfig());
 
         return new SubscriptionBuilder()
                 .withNewMetadata()
-                .withName("keycloak-operator")
+                .withName(KEYCLOAK_OPERATOR_NAME)
                 .withNamespace(cr.getMetadata().getNamespace())
                 .endMetadata()
                 .withNewSpec()
                 .withChannel(subscriptionConfig.channel())
-                .withName("keycloak-operator")
+                .withName(KEYCLOAK_OPERATOR_NAME)
                 .withSource(subscriptionConfig.source())
                 .withSourceNamespace(subscriptionConfig.namespace())
                 .endSpec()
                 .build();
     }
 
-    public Optional<Subscription> getCurrentInstance(Trustify cr) {
-        Subscription subscription = k8sClient.resource(subscription(cr))
-                .inNamespace(cr.getMetadata().getNamespace())
-                .get();
-        return Optional.ofNullable(subscription);
+    /**
+     * The Subscription is named after the operator and its CSVs follow the "name.version" convention.
+     */
+    public static boolean isKeycloakOperatorResource(String name) {
+        return Objects.equals(name, KEYCLOAK_OPERATOR_NAME) || name.startsWith(KEYCLOAK_OPERATOR_NAME + ".");
     }
 
-    public void createSubscription(Trustify cr) {
-        // List all CustomResourceDefinitions
-        List<CustomResourceDefinition> crds = k8sClient.apiextensions().v1().customResourceDefinitions().list().getItems();
-        boolean isOlmInstalled = crds.stream().anyMatch(crd -> "clusterserviceversions.operators.coreos.com".equals(crd.getMetadata().getName()));
-
-        if (!isOlmInstalled) {
-            throw new IllegalStateException("The Kubernetes Cluster does not have OLM");
-        }
+    public Optional<Subscription> getCurrentInstance(Trustify cr, Context<Trustify> context) {
+        ResourceID resourceID = new ResourceID(KEYCLOAK_OPERATOR_NAME, cr.getMetadata().getNamespace());
+        return CRDUtils.getInformerEventSource(context, Subscription.class)
+                .flatMap(informerEventSource -> informerEventSource.get(resourceID));
+    }
 
-        // Operator group
+    public void createOperatorGroupIfMissing(Trustify cr) {
+        metrics.apiCall(KeycloakOperatorService.class, "list");
         if (k8sClient.resources(OperatorGroup.class)
                 .inNamespace(cr.getMetadata().getNamespace())
                 .list()
@@ -77,21 +82,15 @@ public class KeycloakOperatorService {
                     .addToTargetNamespaces(cr.getMetadata().getNamespace())
                     .endSpec()
                     .build();
+            metrics.apiCall(KeycloakOperatorService.class, "create");
             k8sClient.resource(operatorGroup)
                     .inNamespace(cr.getMetadata().getNamespace())
                     .create();
         }
-
-        Subscription subscription = subscription(cr);
-        k8sClient.resource(subscription)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .create();
     }
 
-    public AbstractMap.SimpleEntry<Boolean, String> isSubscriptionReady(Trustify cr) {
-        Subscription subscription = k8sClient.resource(subscription(cr))
-                .inNamespace(cr.getMetadata().getNamespace())
-                .get();
+    public AbstractMap.SimpleEntry<Boolean, String> isSubscriptionReady(Trustify cr, Context<Trustify> context) {
+        Subscription subscription = getCurrentInstance(cr, context).orElse(null);
         boolean isSubscriptionHealthy = subscription != null && subscription.getStatus() != null && subscription.getStatus()
                 .getCatalogHealth()
                 .stream().anyMatch(SubscriptionCatalogHealth::getHealthy);
@@ -104,14 +103,10 @@ public class KeycloakOperatorService {
             return new AbstractMap.SimpleEntry<>(false, "Subscription does not have currentCSV");
         }
 
-        ClusterServiceVersion clusterServiceVersion = new ClusterServiceVersionBuilder()
-                .withNewMetadata()
-                .withName(currentCSV)
-                .endMetadata()
-                .build();
-        clusterServiceVersion = k8sClient.resource(clusterServiceVersion)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .get();
+        ResourceID clusterServiceVersionID = new ResourceID(currentCSV, cr.getMetadata().getNamespace());
+        ClusterServiceVersion clusterServiceVersion = CRDUtils.getInformerEventSource(context, ClusterServiceVersion.class)
+                .flatMap(informerEventSource -> informerEventSource.get(clusterServiceVersionID))
+                .orElse(null);
         if (clusterServiceVersion == null) {
             return new AbstractMap.SimpleEntry<>(false, "ClusterServiceVersion does not exist");
         }
@@ -1,23 +1,37 @@
 package org.trustify.operator.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
+import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
 import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
 import org.keycloak.k8s.v2alpha1.KeycloakRealmImportSpec;
 import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.Realm;
 import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.*;
 import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.users.Credentials;
+import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.metrics.TrustifyMetrics;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -25,12 +39,34 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class KeycloakRealmService {
 
+    private static final Logger logger = Logger.getLogger(KeycloakRealmService.class);
+
+    public static final String DEFAULT_REALM_TEMPLATE = "realm.json";
+
     @Inject
     KubernetesClient k8sClient;
 
+    @Inject
+    TrustifyConfig trustifyConfig;
+
+    @Inject
+    TrustifyMetrics metrics;
+
     @Inject
     ObjectMapper objectMapper;
 
+    /**
+     * A parsed realm template. The tree is never handed out, every CR binds its own {@link Realm} from it.
+     *
+     * @param resourceVersion of the ConfigMap it was read from, null for the bundled realm.json
+     */
+    record RealmTemplate(String resourceVersion, JsonNode realm) {
+    }
+
+    private RealmTemplate bundledRealmTemplate;
+    private final AtomicReference<RealmTemplate> realmTemplate = new AtomicReference<>();
+    private SharedIndexInformer<ConfigMap> realmTemplateInformer;
+
     Function<String, ClientScopes> generateClientScope = scope -> {
         ClientScopes scopeRepresentation = new ClientScopes();
         scopeRepresentation.setName(scope);
@@ -66,19 +102,95 @@ public class KeycloakRealmService {
         return String.format("%s/realms/%s", KeycloakServerService.RELATIVE_PATH, KeycloakRealmService.getRealmName(cr));
     }
 
-    public Optional<KeycloakRealmImport> getCurrentInstance(Trustify cr) {
-        KeycloakRealmImport realmImport = k8sClient.resources(KeycloakRealmImport.class)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .withName(getKeycloakRealmImportName(cr))
-                .get();
-        return Optional.ofNullable(realmImport);
+    @PostConstruct
+    void init() {
+        try (InputStream inputStream = KeycloakRealmService.class.getClassLoader().getResourceAsStream(DEFAULT_REALM_TEMPLATE)) {
+            bundledRealmTemplate = new RealmTemplate(null, objectMapper.readTree(inputStream));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        realmTemplate.set(bundledRealmTemplate);
+
+        trustifyConfig.realmTemplateConfig().ifPresent(this::watchRealmTemplate);
     }
 
-    public KeycloakRealmImport initInstance(Trustify cr) {
+    @PreDestroy
+    void destroy() {
+        if (realmTemplateInformer != null) {
+            realmTemplateInformer.close();
+        }
+    }
+
+    private void watchRealmTemplate(TrustifyConfig.RealmTemplateConfig config) {
+        String namespace = config.namespace().orElseGet(() -> k8sClient.getNamespace());
+        String key = config.key().orElse(DEFAULT_REALM_TEMPLATE);
+        // The informer lists and then watches the ConfigMap, the events it receives are not requests
+        metrics.apiCall(KeycloakRealmService.class, "list");
+        metrics.apiCall(KeycloakRealmService.class, "watch");
+        realmTemplateInformer = k8sClient.configMaps()
+                .inNamespace(namespace)
+                .withName(config.configMap())
+                .inform(new ResourceEventHandler<>() {
+                    @Override
+                    public void onAdd(ConfigMap configMap) {
+                        updateRealmTemplate(configMap, key);
+                    }
+
+                    @Override
+                    public void onUpdate(ConfigMap oldConfigMap, ConfigMap newConfigMap) {
+                        updateRealmTemplate(newConfigMap, key);
+                    }
+
+                    @Override
+                    public void onDelete(ConfigMap configMap, boolean deletedFinalStateUnknown) {
+                        logger.infof("Realm template ConfigMap %s/%s was deleted, falling back to the bundled %s",
+                                namespace, config.configMap(), DEFAULT_REALM_TEMPLATE);
+                        realmTemplate.set(bundledRealmTemplate);
+                    }
+                });
+    }
+
+    void updateRealmTemplate(ConfigMap configMap, String key) {
+        String resourceVersion = configMap.getMetadata().getResourceVersion();
+        if (resourceVersion != null && Objects.equals(realmTemplate.get().resourceVersion(), resourceVersion)) {
+            return;
+        }
+
+        String json = Optional.ofNullable(configMap.getData())
+                .map(data -> data.get(key))
+                .orElse(null);
+        if (json == null) {
+            logger.warnf("Realm template ConfigMap %s/%s has no key %s, keeping the current template",
+                    configMap.getMetadata().getNamespace(), configMap.getMetadata().getName(), key);
+            return;
+        }
+
+        try {
+            JsonNode realm = objectMapper.readTree(json);
+            // Fail here rather than on every reconciliation
+            objectMapper.treeToValue(realm, Realm.class);
+            realmTemplate.set(new RealmTemplate(resourceVersion, realm));
+            logger.infof("Loaded realm template from ConfigMap %s/%s (resourceVersion %s)",
+                    configMap.getMetadata().getNamespace(), configMap.getMetadata().getName(), resourceVersion);
+        } catch (JsonProcessingException e) {
+            logger.errorf(e, "Realm template ConfigMap %s/%s is not a valid realm, keeping the current template",
+                    configMap.getMetadata().getNamespace(), configMap.getMetadata().getName());
+        }
+    }
+
+    public Optional<KeycloakRealmImport> getCurrentInstance(Trustify cr, Context<Trustify> context) {
+        ResourceID resourceID = new ResourceID(getKeycloakRealmImportName(cr), cr.getMetadata().getNamespace());
+        return CRDUtils.getInformerEventSource(context, KeycloakRealmImport.class)
+                .flatMap(informerEventSource -> informerEventSource.get(resourceID));
+    }
+
+    public KeycloakRealmImport initInstance(Trustify cr, Context<Trustify> context) {
         KeycloakRealmImport realmImport = new KeycloakRealmImport();
 
         realmImport.setMetadata(new ObjectMeta());
         realmImport.getMetadata().setName(getKeycloakRealmImportName(cr));
+        realmImport.getMetadata().setNamespace(cr.getMetadata().getNamespace());
+        realmImport.getMetadata().setOwnerReferences(List.of(CRDUtils.getOwnerReference(cr)));
         realmImport.setSpec(new KeycloakRealmImportSpec());
 
         KeycloakRealmImportSpec spec = realmImport.getSpec();
@@ -211,23 +323,23 @@ public class KeycloakRealmService {
                 deleteDocumentScope.getName()
         ));
 
-        return k8sClient.resource(realmImport)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .create();
+        return realmImport;
     }
 
+    /**
+     * Binds a fresh {@link Realm} from the current template so that {@link #initInstance} can mutate it freely.
+     */
     private Realm getDefaultRealm() {
         try {
-            InputStream defaultRealmInputStream = KeycloakRealmService.class.getClassLoader().getResourceAsStream("realm.json");
-            ObjectReader objectReader = objectMapper.readerFor(Realm.class);
-            return objectReader.readValue(defaultRealmInputStream);
-        } catch (IOException e) {
+            return objectMapper.treeToValue(realmTemplate.get().realm(), Realm.class);
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public void cleanupDependentResources(Trustify cr) {
-        getCurrentInstance(cr).ifPresent(keycloakRealmImport -> {
+    public void cleanupDependentResources(Trustify cr, Context<Trustify> context) {
+        getCurrentInstance(cr, context).ifPresent(keycloakRealmImport -> {
+            metrics.apiCall(KeycloakRealmService.class, "delete");
             k8sClient.resource(keycloakRealmImport).delete();
         });
     }
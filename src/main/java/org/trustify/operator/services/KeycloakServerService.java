@@ -5,6 +5,7 @@ import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.api.model.SecretKeySelector;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.keycloak.k8s.v2alpha1.Keycloak;
@@ -20,6 +21,7 @@ import org.trustify.operator.cdrs.v2alpha1.ingress.AppIngressDiscriminator;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.db.deployment.KeycloakDBDeployment;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.db.secret.KeycloakDBSecret;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.db.service.KeycloakDBService;
+import org.trustify.operator.metrics.TrustifyMetrics;
 import org.trustify.operator.utils.CRDUtils;
 
 import java.util.HashMap;
@@ -34,6 +36,9 @@ public class KeycloakServerService {
     @Inject
     KubernetesClient k8sClient;
 
+    @Inject
+    TrustifyMetrics metrics;
+
     @Inject
     TrustifyImagesConfig trustifyImagesConfig;
 
@@ -49,6 +54,8 @@ public class KeycloakServerService {
 
         keycloak.setMetadata(new ObjectMeta());
         keycloak.getMetadata().setName(getKeycloakName(cr));
+        keycloak.getMetadata().setNamespace(cr.getMetadata().getNamespace());
+        keycloak.getMetadata().setOwnerReferences(List.of(CRDUtils.getOwnerReference(cr)));
         keycloak.setSpec(new KeycloakSpec());
 
         KeycloakSpec spec = keycloak.getSpec();
@@ -179,17 +186,13 @@ public class KeycloakServerService {
                 httpManagementRelativePath
         ));
 
-        return k8sClient.resource(keycloak)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .create();
+        return keycloak;
     }
 
-    public Optional<Keycloak> getCurrentInstance(Trustify cr) {
-        Keycloak keycloak = k8sClient.resources(Keycloak.class)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .withName(getKeycloakName(cr))
-                .get();
-        return Optional.ofNullable(keycloak);
+    public Optional<Keycloak> getCurrentInstance(Trustify cr, Context<Trustify> context) {
+        ResourceID resourceID = new ResourceID(getKeycloakName(cr), cr.getMetadata().getNamespace());
+        return CRDUtils.getInformerEventSource(context, Keycloak.class)
+                .flatMap(informerEventSource -> informerEventSource.get(resourceID));
     }
 
     public static String getServiceHost(Trustify cr) {
@@ -202,8 +205,9 @@ public class KeycloakServerService {
         return String.format("%s://%s:%s", protocol, KeycloakServerService.getServiceHost(cr), port);
     }
 
-    public void cleanupDependentResources(Trustify cr) {
-        getCurrentInstance(cr).ifPresent(keycloak -> {
+    public void cleanupDependentResources(Trustify cr, Context<Trustify> context) {
+        getCurrentInstance(cr, context).ifPresent(keycloak -> {
+            metrics.apiCall(KeycloakServerService.class, "delete");
             k8sClient.resource(keycloak).delete();
         });
     }
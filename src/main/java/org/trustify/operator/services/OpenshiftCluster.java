@@ -9,6 +9,7 @@ import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.jboss.logging.Logger;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.metrics.TrustifyMetrics;
 
 import java.util.Collections;
 import java.util.Map;
@@ -19,11 +20,13 @@ public class OpenshiftCluster implements Cluster {
     private static final Logger logger = Logger.getLogger(OpenshiftCluster.class);
 
     private final KubernetesClient k8sClient;
+    private final TrustifyMetrics metrics;
 
     private String hostname;
 
-    public OpenshiftCluster(KubernetesClient k8sClient) {
+    public OpenshiftCluster(KubernetesClient k8sClient, TrustifyMetrics metrics) {
         this.k8sClient = k8sClient;
+        this.metrics = metrics;
         init();
     }
 
@@ -43,6 +46,7 @@ public class OpenshiftCluster implements Cluster {
                 .withName(Cluster.getServerSelfGeneratedTlsSecretName(cr))
                 .endMetadata()
                 .build();
+        metrics.apiCall(OpenshiftCluster.class, "get");
         Secret secret = k8sClient.resource(selfGeneratedSecret)
                 .inNamespace(cr.getMetadata().getNamespace())
                 .get();
@@ -79,6 +83,7 @@ public class OpenshiftCluster implements Cluster {
                     .withPlural("ingresses")
                     .withScope("Cluster")
                     .build();
+            metrics.apiCall(OpenshiftCluster.class, "get");
             GenericKubernetesResource clusterObject = k8sClient.genericKubernetesResources(customResourceDefinitionContext)
                     .withName("cluster")
                     .get();
@@ -0,0 +1,300 @@
+package org.trustify.operator.services;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.storage.StorageClass;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyVolumeStatus;
+import org.trustify.operator.metrics.TrustifyMetrics;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Grows the PVCs when their requested size is increased. Claims can not shrink, and only those whose
+ * StorageClass allows volume expansion are patched. The filesystem is resized by the kubelet while the volume
+ * stays mounted.
+ */
+@ApplicationScoped
+public class PersistentVolumeClaimService {
+
+    private static final Logger logger = Logger.getLogger(PersistentVolumeClaimService.class);
+
+    /**
+     * Conditions set on the claim while the volume, and then its filesystem, are resized.
+     */
+    private static final List<String> RESIZE_CONDITIONS = List.of(
+            "Resizing",
+            "FileSystemResizePending",
+            "ControllerResizeError",
+            "NodeResizeError"
+    );
+
+    /**
+     * How long whether a StorageClass allows volume expansion is remembered, claims are matched on every reconciliation.
+     */
+    static final Duration STORAGE_CLASS_CACHE_TTL = Duration.ofMinutes(5);
+
+    record StorageClassExpansion(boolean allowed, Instant readAt) {
+    }
+
+    @Inject
+    KubernetesClient k8sClient;
+
+    @Inject
+    TrustifyMetrics metrics;
+
+    Clock clock = Clock.systemUTC();
+
+    private final Map<String, StorageClassExpansion> storageClasses = new ConcurrentHashMap<>();
+
+    /**
+     * Claims that should grow but whose StorageClass does not allow it, with the instance they are part of.
+     */
+    private final Map<ResourceID, String> unexpandableClaims = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the desired size is larger than the one requested by the claim and its StorageClass allows expanding it.
+     */
+    public boolean isExpansionRequired(PersistentVolumeClaim actual, PersistentVolumeClaimSpec desired) {
+        ResourceID claim = ResourceID.fromResource(actual);
+        if (!isGrowthRequested(actual.getSpec(), desired)) {
+            unexpandableClaims.remove(claim);
+            return false;
+        }
+
+        boolean allowed = allowsVolumeExpansion(actual.getSpec().getStorageClassName());
+        if (allowed) {
+            unexpandableClaims.remove(claim);
+        } else {
+            unexpandableClaims.put(claim, Optional.ofNullable(actual.getMetadata().getLabels())
+                    .map(labels -> labels.get("app.kubernetes.io/part-of"))
+                    .orElse("")
+            );
+        }
+        return allowed;
+    }
+
+    public static boolean isGrowthRequested(PersistentVolumeClaimSpec actual, PersistentVolumeClaimSpec desired) {
+        BigDecimal actualSize = getStorageRequest(actual);
+        BigDecimal desiredSize = getStorageRequest(desired);
+        return actualSize != null && desiredSize != null && desiredSize.compareTo(actualSize) > 0;
+    }
+
+    /**
+     * Whether any claim of the instance should grow but can not. The claims are evaluated when their dependent is
+     * matched, on every reconciliation, and those no longer cached, e.g. deleted, are ignored.
+     */
+    public boolean isExpansionUnsupported(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getInformerEventSource(context, PersistentVolumeClaim.class)
+                .map(informerEventSource -> informerEventSource
+                        .list(cr.getMetadata().getNamespace(), pvc -> isPartOf(pvc, cr))
+                        .collect(Collectors.toList())
+                )
+                .map(this::isExpansionUnsupported)
+                .orElse(false);
+    }
+
+    boolean isExpansionUnsupported(Collection<PersistentVolumeClaim> claims) {
+        return claims.stream().anyMatch(pvc -> unexpandableClaims.containsKey(ResourceID.fromResource(pvc)));
+    }
+
+    public void forget(Trustify cr) {
+        unexpandableClaims.entrySet().removeIf(entry -> Objects.equals(entry.getKey().getNamespace().orElse(null), cr.getMetadata().getNamespace()) &&
+                Objects.equals(entry.getValue(), cr.getMetadata().getName())
+        );
+    }
+
+    /**
+     * The StorageClass is read again once {@link #STORAGE_CLASS_CACHE_TTL} passed, and a warning is only logged
+     * when it stops allowing expansion.
+     */
+    public boolean allowsVolumeExpansion(String storageClassName) {
+        // Claims without a StorageClass are bound to statically provisioned volumes
+        if (storageClassName == null || storageClassName.isEmpty()) {
+            return false;
+        }
+
+        Instant now = clock.instant();
+        StorageClassExpansion cached = storageClasses.get(storageClassName);
+        if (cached != null && now.isBefore(cached.readAt().plus(STORAGE_CLASS_CACHE_TTL))) {
+            return cached.allowed();
+        }
+
+        boolean allowed;
+        try {
+            StorageClass storageClass = getStorageClass(storageClassName);
+            allowed = storageClass != null && Objects.equals(storageClass.getAllowVolumeExpansion(), true);
+            if (!allowed && (cached == null || cached.allowed())) {
+                logger.warnf("StorageClass %s does not allow volume expansion, the PVCs using it are not resized", storageClassName);
+            }
+        } catch (KubernetesClientException e) {
+            logger.warnf("Could not read StorageClass %s: %s", storageClassName, e.getMessage());
+            allowed = false;
+        }
+
+        storageClasses.put(storageClassName, new StorageClassExpansion(allowed, now));
+        return allowed;
+    }
+
+    StorageClass getStorageClass(String storageClassName) {
+        metrics.apiCall(PersistentVolumeClaimService.class, "get");
+        return k8sClient.storage().v1().storageClasses()
+                .withName(storageClassName)
+                .get();
+    }
+
+    /**
+     * Only the storage request is patched, every other field of the claim is immutable.
+     */
+    public PersistentVolumeClaim expand(PersistentVolumeClaim actual, PersistentVolumeClaimSpec desired) {
+        Quantity size = desired.getResources().getRequests().get("storage");
+        logger.infof("Expanding PVC %s/%s to %s", actual.getMetadata().getNamespace(), actual.getMetadata().getName(), size);
+
+        // edit() reads the claim before patching it
+        metrics.apiCall(PersistentVolumeClaimService.class, "get");
+        metrics.apiCall(PersistentVolumeClaimService.class, "patch");
+        return k8sClient.persistentVolumeClaims()
+                .inNamespace(actual.getMetadata().getNamespace())
+                .withName(actual.getMetadata().getName())
+                .edit(pvc -> new PersistentVolumeClaimBuilder(pvc)
+                        .editSpec()
+                        .editResources()
+                        .addToRequests("storage", size)
+                        .endResources()
+                        .endSpec()
+                        .build()
+                );
+    }
+
+    /**
+     * Claims created by the StatefulSet controller carry its selector labels and are named "template-statefulset-ordinal".
+     * Those created before the templates were labeled are labeled here, which makes them visible to the informer.
+     */
+    public void expandStatefulSetClaims(StatefulSet statefulSet, PersistentVolumeClaim template) {
+        String claimNamePrefix = getStatefulSetClaimNamePrefix(statefulSet, template);
+        Map<String, String> labels = Optional.ofNullable(template.getMetadata().getLabels()).orElse(Map.of());
+
+        metrics.apiCall(PersistentVolumeClaimService.class, "list");
+        k8sClient.persistentVolumeClaims()
+                .inNamespace(statefulSet.getMetadata().getNamespace())
+                .withLabels(statefulSet.getSpec().getSelector().getMatchLabels())
+                .list()
+                .getItems()
+                .stream()
+                .filter(pvc -> pvc.getMetadata().getName().startsWith(claimNamePrefix))
+                .map(pvc -> hasLabels(pvc, labels) ? pvc : label(pvc, labels))
+                .filter(pvc -> isExpansionRequired(pvc, template.getSpec()))
+                .forEach(pvc -> expand(pvc, template.getSpec()));
+    }
+
+    /**
+     * The labeled claims of the StatefulSet, as cached by the informer.
+     */
+    public List<PersistentVolumeClaim> getStatefulSetClaims(StatefulSet statefulSet, PersistentVolumeClaim template, Context<Trustify> context) {
+        String claimNamePrefix = getStatefulSetClaimNamePrefix(statefulSet, template);
+        Map<String, String> selector = statefulSet.getSpec().getSelector().getMatchLabels();
+
+        return CRDUtils.getInformerEventSource(context, PersistentVolumeClaim.class)
+                .map(informerEventSource -> informerEventSource
+                        .list(statefulSet.getMetadata().getNamespace(), pvc -> pvc.getMetadata().getName().startsWith(claimNamePrefix) && hasLabels(pvc, selector))
+                        .collect(Collectors.toList())
+                )
+                .orElse(List.of());
+    }
+
+    private PersistentVolumeClaim label(PersistentVolumeClaim actual, Map<String, String> labels) {
+        logger.infof("Labeling PVC %s/%s", actual.getMetadata().getNamespace(), actual.getMetadata().getName());
+
+        // edit() reads the claim before patching it
+        metrics.apiCall(PersistentVolumeClaimService.class, "get");
+        metrics.apiCall(PersistentVolumeClaimService.class, "patch");
+        return k8sClient.persistentVolumeClaims()
+                .inNamespace(actual.getMetadata().getNamespace())
+                .withName(actual.getMetadata().getName())
+                .edit(pvc -> new PersistentVolumeClaimBuilder(pvc)
+                        .editMetadata()
+                        .addToLabels(labels)
+                        .endMetadata()
+                        .build()
+                );
+    }
+
+    private static String getStatefulSetClaimNamePrefix(StatefulSet statefulSet, PersistentVolumeClaim template) {
+        return template.getMetadata().getName() + "-" + statefulSet.getMetadata().getName() + "-";
+    }
+
+    private static boolean hasLabels(PersistentVolumeClaim pvc, Map<String, String> labels) {
+        return Optional.ofNullable(pvc.getMetadata().getLabels())
+                .map(actualLabels -> actualLabels.entrySet().containsAll(labels.entrySet()))
+                .orElse(labels.isEmpty());
+    }
+
+    public static BigDecimal getStorageRequest(PersistentVolumeClaimSpec spec) {
+        return Optional.ofNullable(spec)
+                .map(PersistentVolumeClaimSpec::getResources)
+                .map(VolumeResourceRequirements::getRequests)
+                .map(requests -> requests.get("storage"))
+                .map(Quantity::getAmountInBytes)
+                .orElse(null);
+    }
+
+    /**
+     * Claims labeled as part of the instance, including the ones created from the importer volumeClaimTemplates.
+     */
+    public static List<TrustifyVolumeStatus> getVolumeStatus(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getInformerEventSource(context, PersistentVolumeClaim.class)
+                .map(informerEventSource -> informerEventSource
+                        .list(cr.getMetadata().getNamespace(), pvc -> isPartOf(pvc, cr))
+                        .map(PersistentVolumeClaimService::getVolumeStatus)
+                        .sorted(Comparator.comparing(TrustifyVolumeStatus::getName))
+                        .collect(Collectors.toList())
+                )
+                .orElse(null);
+    }
+
+    public static TrustifyVolumeStatus getVolumeStatus(PersistentVolumeClaim pvc) {
+        TrustifyVolumeStatus volumeStatus = new TrustifyVolumeStatus();
+        volumeStatus.setName(pvc.getMetadata().getName());
+        volumeStatus.setRequested(Optional.ofNullable(pvc.getSpec().getResources())
+                .map(VolumeResourceRequirements::getRequests)
+                .map(requests -> requests.get("storage"))
+                .map(Quantity::toString)
+                .orElse(null)
+        );
+        volumeStatus.setCapacity(Optional.ofNullable(pvc.getStatus())
+                .map(PersistentVolumeClaimStatus::getCapacity)
+                .map(capacity -> capacity.get("storage"))
+                .map(Quantity::toString)
+                .orElse(null)
+        );
+        volumeStatus.setResizeStatus(Optional.ofNullable(pvc.getStatus())
+                .map(PersistentVolumeClaimStatus::getConditions).stream()
+                .flatMap(Collection::stream)
+                .filter(condition -> RESIZE_CONDITIONS.contains(condition.getType()) && Objects.equals(condition.getStatus(), "True"))
+                .map(PersistentVolumeClaimCondition::getType)
+                .findFirst()
+                .orElse(null)
+        );
+        return volumeStatus;
+    }
+
+    private static boolean isPartOf(PersistentVolumeClaim pvc, Trustify cr) {
+        return Optional.ofNullable(pvc.getMetadata().getLabels())
+                .map(labels -> Objects.equals(labels.get("app.kubernetes.io/part-of"), cr.getMetadata().getName()))
+                .orElse(false);
+    }
+}
@@ -0,0 +1,61 @@
+package org.trustify.operator.utils;
+
+import io.fabric8.kubernetes.api.model.autoscaling.v2.*;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class AutoscalingUtils {
+
+    public static final int DEFAULT_MIN_REPLICAS = 1;
+    public static final int DEFAULT_MAX_REPLICAS = 3;
+    public static final int DEFAULT_TARGET_CPU_UTILIZATION = 80;
+
+    public static boolean isEnabled(TrustifySpec.AutoscalingSpec autoscalingSpec) {
+        return autoscalingSpec != null && autoscalingSpec.enabled();
+    }
+
+    public static int getMinReplicas(TrustifySpec.AutoscalingSpec autoscalingSpec) {
+        return Optional.ofNullable(autoscalingSpec.minReplicas()).orElse(DEFAULT_MIN_REPLICAS);
+    }
+
+    public static int getMaxReplicas(TrustifySpec.AutoscalingSpec autoscalingSpec) {
+        return Optional.ofNullable(autoscalingSpec.maxReplicas()).orElse(Math.max(getMinReplicas(autoscalingSpec), DEFAULT_MAX_REPLICAS));
+    }
+
+    public static HorizontalPodAutoscalerSpec getHorizontalPodAutoscalerSpec(TrustifySpec.AutoscalingSpec autoscalingSpec, String deploymentName) {
+        List<MetricSpec> metrics = new ArrayList<>();
+        metrics.add(resourceMetric("cpu", Optional.ofNullable(autoscalingSpec.targetCPUUtilization()).orElse(DEFAULT_TARGET_CPU_UTILIZATION)));
+        Optional.ofNullable(autoscalingSpec.targetMemoryUtilization())
+                .ifPresent(utilization -> metrics.add(resourceMetric("memory", utilization)));
+        Optional.ofNullable(autoscalingSpec.metrics())
+                .ifPresent(metrics::addAll);
+
+        return new HorizontalPodAutoscalerSpecBuilder()
+                .withScaleTargetRef(new CrossVersionObjectReferenceBuilder()
+                        .withApiVersion("apps/v1")
+                        .withKind("Deployment")
+                        .withName(deploymentName)
+                        .build()
+                )
+                .withMinReplicas(getMinReplicas(autoscalingSpec))
+                .withMaxReplicas(getMaxReplicas(autoscalingSpec))
+                .withMetrics(metrics)
+                .build();
+    }
+
+    private static MetricSpec resourceMetric(String resource, int averageUtilization) {
+        return new MetricSpecBuilder()
+                .withType("Resource")
+                .withNewResource()
+                .withName(resource)
+                .withNewTarget()
+                .withType("Utilization")
+                .withAverageUtilization(averageUtilization)
+                .endTarget()
+                .endResource()
+                .build();
+    }
+}
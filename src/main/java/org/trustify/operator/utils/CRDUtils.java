@@ -1,17 +1,32 @@
 package org.trustify.operator.utils;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
 import io.fabric8.kubernetes.api.model.networking.v1.IngressRule;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.function.Function;
 
 public class CRDUtils {
 
+    // Map entries are sorted so the hash does not depend on the iteration order of the maps (e.g. Map.of)
+    private static final KubernetesSerialization CANONICAL_SERIALIZATION = new KubernetesSerialization(
+            new ObjectMapper().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true),
+            true
+    );
+
     public static Optional<String> extractHostFromIngress(Ingress ingress) {
         return Optional.ofNullable(ingress.getSpec())
                 .flatMap(ingressSpec -> ingressSpec
@@ -37,6 +52,56 @@ public class CRDUtils {
                 .build();
     }
 
+    /**
+     * Informers are only registered for CRDs that exist in the cluster (e.g. OLM or Keycloak ones might be missing).
+     * If there is no informer for the given type then no resource of that type can exist either.
+     */
+    public static <R extends HasMetadata> Optional<InformerEventSource<R, Trustify>> getInformerEventSource(Context<Trustify> context, Class<R> resourceType) {
+        return context.eventSourceRetriever()
+                .getResourceEventSourcesFor(resourceType)
+                .stream()
+                .filter(eventSource -> eventSource instanceof InformerEventSource)
+                .map(eventSource -> (InformerEventSource<R, Trustify>) eventSource)
+                .findFirst();
+    }
+
+    public static String getPodTemplateHash(PodTemplateSpec podTemplateSpec) {
+        return getCanonicalHash(podTemplateSpec);
+    }
+
+    /**
+     * Hash of the JSON representation of the value, with map entries sorted by key.
+     */
+    public static String getCanonicalHash(Object value) {
+        return getHash(CANONICAL_SERIALIZATION.asJson(value));
+    }
+
+    /**
+     * Pods only restart when their template changes, so the hash of a mounted file is added to it.
+     */
+    public static String getHash(String content) {
+        return getHash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String getHash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The desired resource carries the hash of its pod template, so drift is detected with a single comparison.
+     */
+    public static boolean matchPodTemplateHash(HasMetadata desired, HasMetadata actual) {
+        String desiredHash = desired.getMetadata().getAnnotations().get(Constants.POD_TEMPLATE_HASH_ANNOTATION);
+        String actualHash = Optional.ofNullable(actual.getMetadata().getAnnotations())
+                .map(annotations -> annotations.get(Constants.POD_TEMPLATE_HASH_ANNOTATION))
+                .orElse(null);
+        return Objects.equals(desiredHash, actualHash);
+    }
+
     public static <T, R> Optional<R> getValueFromSubSpec(T subSpec, Function<T, R> valueSupplier) {
         if (subSpec != null) {
             return Optional.ofNullable(valueSupplier.apply(subSpec));
@@ -45,6 +110,13 @@ public class CRDUtils {
         }
     }
 
+    /**
+     * Kubernetes only accepts percentages as strings, plain numbers must be sent as integers.
+     */
+    public static IntOrString getIntOrString(String value) {
+        return value.matches("\\d+") ? new IntOrString(Integer.parseInt(value)) : new IntOrString(value);
+    }
+
     public static Map<String, String> getLabelsFromString(String labels) {
         Map<String, String> result = new HashMap<>();
         Arrays.stream(labels.split(",")).forEach(s -> {
@@ -69,6 +141,17 @@ public class CRDUtils {
                 .build();
     }
 
+    public static PersistentVolumeClaimSpec getPersistentVolumeClaimSpec(String size, TrustifySpec.StorageVolumeSpec volumeSpec) {
+        return new PersistentVolumeClaimSpecBuilder()
+                .withAccessModes(CRDUtils.getValueFromSubSpec(volumeSpec, TrustifySpec.StorageVolumeSpec::accessMode).orElse("ReadWriteOnce"))
+                .withStorageClassName(CRDUtils.getValueFromSubSpec(volumeSpec, TrustifySpec.StorageVolumeSpec::storageClassName).orElse(null))
+                .withResources(new VolumeResourceRequirementsBuilder()
+                        .withRequests(Map.of("storage", new Quantity(size)))
+                        .build()
+                )
+                .build();
+    }
+
     public static String generateRandomString(int targetStringLength) {
         int leftLimit = 48; // numeral '0'
         int rightLimit = 122; // letter 'z'
@@ -0,0 +1,42 @@
+package org.trustify.operator.utils;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Informer store that drops the metadata the operator never reads before caching a resource.
+ * managedFields must be kept for resources matched through Server Side Apply, since the matcher relies on them.
+ */
+public class TrimmedItemStore<R extends HasMetadata> extends BasicItemStore<R> {
+
+    public static final String LAST_APPLIED_CONFIGURATION_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+    private final boolean keepManagedFields;
+
+    public TrimmedItemStore(boolean keepManagedFields) {
+        super(Cache::metaNamespaceKeyFunc);
+        this.keepManagedFields = keepManagedFields;
+    }
+
+    @Override
+    public R put(String key, R resource) {
+        ObjectMeta metadata = resource.getMetadata();
+        if (!keepManagedFields) {
+            metadata.setManagedFields(null);
+        }
+
+        Map<String, String> annotations = metadata.getAnnotations();
+        if (annotations != null && annotations.containsKey(LAST_APPLIED_CONFIGURATION_ANNOTATION)) {
+            Map<String, String> trimmedAnnotations = new HashMap<>(annotations);
+            trimmedAnnotations.remove(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+            metadata.setAnnotations(trimmedAnnotations);
+        }
+
+        return super.put(key, resource);
+    }
+}
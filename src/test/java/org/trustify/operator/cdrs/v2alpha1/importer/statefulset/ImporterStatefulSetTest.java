@@ -0,0 +1,51 @@
+package org.trustify.operator.cdrs.v2alpha1.importer.statefulset;
+
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+public class ImporterStatefulSetTest {
+
+    private static final Map<String, String> LABELS = Map.of("app.kubernetes.io/managed-by", "trustify-operator");
+
+    @Test
+    public void templatesCreatedWithoutLabelsMatch() {
+        // StatefulSets created by previous versions of the operator have unlabeled templates
+        Assertions.assertTrue(ImporterStatefulSet.matchVolumeClaimTemplates(statefulSet("10Gi", "standard", LABELS), statefulSet("10Gi", "standard", null)));
+    }
+
+    @Test
+    public void templatesMatchOnSizeAndStorageClass() {
+        Assertions.assertTrue(ImporterStatefulSet.matchVolumeClaimTemplates(statefulSet("10Gi", "standard", LABELS), statefulSet("10240Mi", "standard", LABELS)));
+        Assertions.assertTrue(ImporterStatefulSet.matchVolumeClaimTemplates(statefulSet("10Gi", null, LABELS), statefulSet("10Gi", "standard", LABELS)));
+        Assertions.assertFalse(ImporterStatefulSet.matchVolumeClaimTemplates(statefulSet("20Gi", "standard", LABELS), statefulSet("10Gi", "standard", LABELS)));
+        Assertions.assertFalse(ImporterStatefulSet.matchVolumeClaimTemplates(statefulSet("10Gi", "fast", LABELS), statefulSet("10Gi", "standard", LABELS)));
+    }
+
+    private static StatefulSet statefulSet(String size, String storageClassName, Map<String, String> labels) {
+        return new StatefulSetBuilder()
+                .withNewMetadata().withName("trustify-importer").endMetadata()
+                .withNewSpec()
+                .addToVolumeClaimTemplates(new PersistentVolumeClaimBuilder()
+                        .withNewMetadata()
+                        .withName("importer-workdir")
+                        .withLabels(labels)
+                        .endMetadata()
+                        .withNewSpec()
+                        .withAccessModes("ReadWriteOnce")
+                        .withStorageClassName(storageClassName)
+                        .withNewResources()
+                        .addToRequests("storage", new Quantity(size))
+                        .endResources()
+                        .endSpec()
+                        .build()
+                )
+                .endSpec()
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.configmap;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+
+import java.util.Map;
+
+public class DBConfigMapTest {
+
+    private static final ResourceRequirements ONE_GI = new ResourceRequirementsBuilder()
+            .addToLimits("memory", new Quantity("1Gi"))
+            .build();
+
+    @Test
+    public void parametersAreSizedAfterTheMemoryLimit() {
+        Map<String, String> parameters = DBConfigMap.getParameters(trustify(Map.of()), ONE_GI);
+
+        Assertions.assertEquals(Map.of(
+                "max_connections", "100",
+                "shared_buffers", "262144kB",
+                "effective_cache_size", "786432kB",
+                "maintenance_work_mem", "65536kB",
+                "work_mem", "2621kB",
+                "wal_buffers", "8192kB"
+        ), parameters);
+    }
+
+    @Test
+    public void userParametersTakePrecedence() {
+        Trustify cr = trustify(Map.of("max_connections", "200", "shared_buffers", "128MB", "log_min_duration_statement", "1000"));
+        Map<String, String> parameters = DBConfigMap.getParameters(cr, ONE_GI);
+
+        Assertions.assertTrue(DBConfigMap.isMaxConnectionsValid(cr));
+        Assertions.assertEquals(200, DBConfigMap.getMaxConnections(cr));
+        Assertions.assertEquals("200", parameters.get("max_connections"));
+        Assertions.assertEquals("1310kB", parameters.get("work_mem"));
+        Assertions.assertEquals("128MB", parameters.get("shared_buffers"));
+        Assertions.assertEquals("1000", parameters.get("log_min_duration_statement"));
+    }
+
+    @Test
+    public void invalidMaxConnectionsFallsBackToTheDefault() {
+        for (String value : new String[]{"abc", "", "0", "-5", "1.5"}) {
+            Trustify cr = trustify(Map.of("max_connections", value));
+
+            Assertions.assertFalse(DBConfigMap.isMaxConnectionsValid(cr), value);
+            Assertions.assertEquals(DBConfigMap.DEFAULT_MAX_CONNECTIONS, DBConfigMap.getMaxConnections(cr), value);
+            Assertions.assertTrue(DBConfigMap.getPostgresqlConf(cr, ONE_GI).contains("max_connections = '100'\n"), value);
+        }
+    }
+
+    @Test
+    public void memoryLimitDefaultsTo512Mi() {
+        Map<String, String> parameters = DBConfigMap.getParameters(trustify(Map.of()), new ResourceRequirements());
+
+        Assertions.assertEquals("131072kB", parameters.get("shared_buffers"));
+        Assertions.assertEquals("393216kB", parameters.get("effective_cache_size"));
+    }
+
+    @Test
+    public void walIsInPlaceBeforeTheDataDirectoryLinksToIt() {
+        String script = DBConfigMap.getWalScript();
+
+        int copy = script.indexOf("cp -a \"$PGDATA/pg_wal\" \"$WAL_DIR.tmp\"");
+        int rename = script.indexOf("mv \"$WAL_DIR.tmp\" \"$WAL_DIR\"");
+        int swap = script.indexOf("mv \"$PGDATA/pg_wal\" \"$PGDATA/pg_wal.old\"");
+        int cleanup = script.indexOf("rm -rf \"$PGDATA/pg_wal.old\"");
+
+        Assertions.assertTrue(copy >= 0 && copy < rename && rename < swap && swap < cleanup, script);
+        Assertions.assertFalse(script.contains("rm -rf \"$PGDATA/pg_wal\""), script);
+    }
+
+    private static Trustify trustify(Map<String, String> parameters) {
+        TrustifySpec.EmbeddedDatabaseSpec embeddedDatabaseSpec = new TrustifySpec.EmbeddedDatabaseSpec(
+                null, null, parameters, null, null, null
+        );
+        TrustifySpec.DatabaseSpec databaseSpec = new TrustifySpec.DatabaseSpec(
+                false, null, embeddedDatabaseSpec, null, null, null
+        );
+
+        Trustify trustify = new Trustify();
+        trustify.setMetadata(new ObjectMetaBuilder().withName("trustify").withNamespace("default").build());
+        trustify.setSpec(new TrustifySpec(
+                null, null, null, null, null,
+                null, null, null, null, null,
+                databaseSpec, null, null, null, null,
+                null, null, null, null, null,
+                null, null, null, null, null
+        ));
+        return trustify;
+    }
+}
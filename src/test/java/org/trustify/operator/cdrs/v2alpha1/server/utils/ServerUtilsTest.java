@@ -0,0 +1,77 @@
+package org.trustify.operator.cdrs.v2alpha1.server.utils;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+
+public class ServerUtilsTest {
+
+    private static final TrustifySpec.RolloutSpec RECREATE = new TrustifySpec.RolloutSpec(TrustifySpec.RolloutStrategyType.RECREATE, null, null);
+    private static final TrustifySpec.RolloutSpec ROLLING_UPDATE = new TrustifySpec.RolloutSpec(TrustifySpec.RolloutStrategyType.ROLLING_UPDATE, null, null);
+
+    @Test
+    public void budgetIsSharedByEveryPod() {
+        // 100 max_connections minus 10 reserved, shared by 2 Server and 1 Importer pods
+        Trustify cr = trustify(2, 1, RECREATE, null);
+
+        Assertions.assertEquals(90, ServerUtils.getDBConnectionBudget(cr));
+        Assertions.assertEquals(3, ServerUtils.getMaxServerPods(cr) + ServerUtils.getMaxImporterInstances(cr));
+        Assertions.assertEquals(30, ServerUtils.getDBPoolMaxSize(cr));
+        Assertions.assertEquals(7, ServerUtils.getDBPoolMinSize(cr));
+    }
+
+    @Test
+    public void rollingUpdateCountsTheSurgedPod() {
+        Trustify cr = trustify(2, 1, ROLLING_UPDATE, null);
+
+        Assertions.assertEquals(3, ServerUtils.getMaxServerPods(cr));
+        Assertions.assertEquals(22, ServerUtils.getDBPoolMaxSize(cr));
+        Assertions.assertEquals(3, ServerUtils.getDBConnectionsStatus(cr).getServerInstances());
+    }
+
+    @Test
+    public void rollingUpdateCountsAPercentageOfSurgedPods() {
+        Trustify cr = trustify(3, 1, new TrustifySpec.RolloutSpec(TrustifySpec.RolloutStrategyType.ROLLING_UPDATE, "50%", null), null);
+
+        Assertions.assertEquals(5, ServerUtils.getMaxServerPods(cr));
+        Assertions.assertEquals(15, ServerUtils.getDBPoolMaxSize(cr));
+    }
+
+    @Test
+    public void budgetWithoutPods() {
+        Assertions.assertEquals(90, ServerUtils.getDBPoolMaxSize(trustify(0, 0, RECREATE, null)));
+
+        TrustifySpec.ImporterAutoscalingSpec importerAutoscalingSpec = new TrustifySpec.ImporterAutoscalingSpec(
+                true, 0, 0, null, null, null, null, null, null
+        );
+        Assertions.assertEquals(90, ServerUtils.getDBPoolMaxSize(trustify(0, 1, RECREATE, importerAutoscalingSpec)));
+    }
+
+    @Test
+    public void surgePods() {
+        Assertions.assertEquals(1, ServerUtils.getSurgePods("1", 3));
+        Assertions.assertEquals(0, ServerUtils.getSurgePods("0", 3));
+        Assertions.assertEquals(1, ServerUtils.getSurgePods("25%", 3));
+        Assertions.assertEquals(0, ServerUtils.getSurgePods("25%", 0));
+        Assertions.assertEquals(1, ServerUtils.getSurgePods("one", 3));
+    }
+
+    private static Trustify trustify(int serverInstances, int importerInstances, TrustifySpec.RolloutSpec rolloutSpec, TrustifySpec.ImporterAutoscalingSpec importerAutoscalingSpec) {
+        TrustifySpec.DatabaseSpec databaseSpec = new TrustifySpec.DatabaseSpec(
+                false, null, null, null, null, new TrustifySpec.DatabasePoolSizingSpec(true, null, null)
+        );
+
+        Trustify trustify = new Trustify();
+        trustify.setMetadata(new ObjectMetaBuilder().withName("trustify").withNamespace("default").build());
+        trustify.setSpec(new TrustifySpec(
+                null, null, null, null, null,
+                null, serverInstances, importerInstances, null, null,
+                databaseSpec, null, null, null, null,
+                null, null, rolloutSpec, null, null,
+                importerAutoscalingSpec, null, null, null, null
+        ));
+        return trustify;
+    }
+}
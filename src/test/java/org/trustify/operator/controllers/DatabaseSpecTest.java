@@ -74,6 +74,9 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                                 null,
                                 null
                         ),
+                        null,
+                        null,
+                        null,
                         null
                 ),
                 null,
@@ -81,6 +84,14 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -123,6 +134,9 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 new TrustifySpec.DatabaseSpec(
                         false,
                         null,
+                        null,
+                        null,
+                        null,
                         null
                 ),
                 null,
@@ -130,6 +144,14 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -0,0 +1,107 @@
+package org.trustify.operator.controllers;
+
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
+import org.trustify.operator.controllers.setup.K3sResource;
+
+import java.util.concurrent.TimeUnit;
+
+@QuarkusTestResource(K3sResource.class)
+@QuarkusTest
+public class RolloutSpecTest extends ReconcilerBaseTest {
+
+    @Test
+    public void changeRollout() throws InterruptedException {
+        // Create
+        final Trustify trustify = generateTrustify("change-rollout");
+        trustify.setSpec(getSpec(new TrustifySpec.RolloutSpec(
+                TrustifySpec.RolloutStrategyType.ROLLING_UPDATE,
+                "2",
+                null
+        )));
+
+        createTrustify(trustify);
+
+        // Verify resources
+        Awaitility.await()
+                .ignoreException(NullPointerException.class)
+                .atMost(3, TimeUnit.MINUTES)
+                .untilAsserted(() -> {
+                    verifyDatabase(trustify);
+                    verifyTrustify(trustify);
+
+                    final var strategy = client.apps().deployments()
+                            .inNamespace(getNamespaceName())
+                            .withName(ServerDeployment.getDeploymentName(trustify))
+                            .get()
+                            .getSpec()
+                            .getStrategy();
+                    Assertions.assertEquals("RollingUpdate", strategy.getType());
+                    Assertions.assertEquals(2, strategy.getRollingUpdate().getMaxSurge().getIntVal());
+                });
+
+        // Update only the rollout, the pod template stays the same
+        client.resources(Trustify.class)
+                .inNamespace(getNamespaceName())
+                .withName(trustify.getMetadata().getName())
+                .edit(cr -> {
+                    cr.setSpec(getSpec(new TrustifySpec.RolloutSpec(
+                            TrustifySpec.RolloutStrategyType.RECREATE,
+                            null,
+                            null
+                    )));
+                    return cr;
+                });
+
+        Awaitility.await()
+                .ignoreException(NullPointerException.class)
+                .atMost(1, TimeUnit.MINUTES)
+                .untilAsserted(() -> {
+                    final var strategy = client.apps().deployments()
+                            .inNamespace(getNamespaceName())
+                            .withName(ServerDeployment.getDeploymentName(trustify))
+                            .get()
+                            .getSpec()
+                            .getStrategy();
+                    Assertions.assertEquals("Recreate", strategy.getType());
+                    Assertions.assertNull(strategy.getRollingUpdate());
+                });
+    }
+
+    private static TrustifySpec getSpec(TrustifySpec.RolloutSpec rolloutSpec) {
+        return new TrustifySpec(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                rolloutSpec,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+}
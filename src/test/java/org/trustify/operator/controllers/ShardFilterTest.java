@@ -0,0 +1,48 @@
+package org.trustify.operator.controllers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class ShardFilterTest {
+
+    private static final List<String> NAMESPACES = List.of("default", "trustify", "team-a", "team-b", "team-c", "openshift-operators");
+
+    @Test
+    public void everyNamespaceHasExactlyOneShard() {
+        int shards = 3;
+        for (String namespace : NAMESPACES) {
+            long owners = IntStream.range(0, shards)
+                    .filter(index -> new ShardFilter.Shard(shards, index).owns(namespace))
+                    .count();
+            Assertions.assertEquals(1, owners, namespace);
+        }
+    }
+
+    @Test
+    public void shardDoesNotDependOnTheReplica() {
+        // Every replica must agree on the owner of a namespace, so the hash can not be seeded per JVM
+        Assertions.assertTrue(new ShardFilter.Shard(3, 0).owns("default"));
+        Assertions.assertTrue(new ShardFilter.Shard(1, 0).owns("team-a"));
+    }
+
+    @Test
+    public void invalidShard() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ShardFilter.Shard(0, 0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ShardFilter.Shard(3, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ShardFilter.Shard(3, -1));
+    }
+
+    @Test
+    public void shardIndexIsTheStatefulSetOrdinal() {
+        Assertions.assertEquals(0, ShardFilter.getPodOrdinal("trustify-operator-0"));
+        Assertions.assertEquals(12, ShardFilter.getPodOrdinal("trustify-operator-12"));
+
+        // Deployment pods end with a random suffix
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class, () -> ShardFilter.getPodOrdinal("trustify-operator-5d9c7b8f6-abcde"));
+        Assertions.assertTrue(e.getMessage().contains("StatefulSet"), e.getMessage());
+        Assertions.assertThrows(IllegalStateException.class, () -> ShardFilter.getPodOrdinal(null));
+    }
+}
@@ -0,0 +1,92 @@
+package org.trustify.operator.services;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.OptionalDouble;
+
+public class ImporterAutoscalerServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Duration COOLDOWN = Duration.ofSeconds(300);
+
+    @Test
+    public void scaleUpIsImmediate() {
+        var recommendation = ImporterAutoscalerService.recommend(1, NOW, OptionalDouble.of(25), 0, 5, 10, COOLDOWN, NOW);
+        Assertions.assertEquals(3, recommendation.replicas());
+        Assertions.assertEquals(NOW, recommendation.notScaledDownAt());
+    }
+
+    @Test
+    public void scaleUpIsCappedByMaxReplicas() {
+        var recommendation = ImporterAutoscalerService.recommend(1, NOW, OptionalDouble.of(1000), 0, 5, 10, COOLDOWN, NOW);
+        Assertions.assertEquals(5, recommendation.replicas());
+    }
+
+    @Test
+    public void scaleDownWaitsForTheCooldown() {
+        Instant notScaledDownAt = NOW.minusSeconds(60);
+        var recommendation = ImporterAutoscalerService.recommend(3, notScaledDownAt, OptionalDouble.of(5), 0, 5, 10, COOLDOWN, NOW);
+        Assertions.assertEquals(3, recommendation.replicas());
+        // The cooldown keeps running from the last time the backlog was high
+        Assertions.assertEquals(notScaledDownAt, recommendation.notScaledDownAt());
+    }
+
+    @Test
+    public void scaleDownAfterTheCooldown() {
+        Instant notScaledDownAt = NOW.minus(COOLDOWN).minusSeconds(1);
+        var recommendation = ImporterAutoscalerService.recommend(3, notScaledDownAt, OptionalDouble.of(5), 0, 5, 10, COOLDOWN, NOW);
+        Assertions.assertEquals(1, recommendation.replicas());
+        Assertions.assertEquals(NOW, recommendation.notScaledDownAt());
+    }
+
+    @Test
+    public void scaleToZeroWithoutBacklog() {
+        Instant notScaledDownAt = NOW.minus(COOLDOWN).minusSeconds(1);
+        var recommendation = ImporterAutoscalerService.recommend(2, notScaledDownAt, OptionalDouble.of(0), 0, 5, 10, COOLDOWN, NOW);
+        Assertions.assertEquals(0, recommendation.replicas());
+    }
+
+    @Test
+    public void keepReplicasWhenTheBacklogIsUnknown() {
+        Instant notScaledDownAt = NOW.minus(COOLDOWN).minusSeconds(1);
+        var recommendation = ImporterAutoscalerService.recommend(2, notScaledDownAt, OptionalDouble.empty(), 0, 5, 10, COOLDOWN, NOW);
+        Assertions.assertEquals(2, recommendation.replicas());
+        Assertions.assertEquals(notScaledDownAt, recommendation.notScaledDownAt());
+        Assertions.assertEquals(NOW, recommendation.sampledAt());
+    }
+
+    @Test
+    public void parseMetric() {
+        String body = """
+                # HELP trustify_ingestion_backlog Documents waiting to be ingested
+                # TYPE trustify_ingestion_backlog gauge
+                trustify_ingestion_backlog{source="osv"} 12
+                trustify_ingestion_backlog{source="csaf"} 3.5 1700000000000
+                trustify_ingestion_backlog_total 100
+                other_metric 7
+                """;
+        Assertions.assertEquals(15.5, ImporterAutoscalerService.parseMetric(body, "trustify_ingestion_backlog").getAsDouble());
+    }
+
+    @Test
+    public void parseMetricWithoutLabels() {
+        String body = """
+                trustify_ingestion_backlog 4
+                trustify_ingestion_backlog_total 100
+                """;
+        Assertions.assertEquals(4, ImporterAutoscalerService.parseMetric(body, "trustify_ingestion_backlog").getAsDouble());
+    }
+
+    @Test
+    public void parseMissingMetric() {
+        String body = """
+                # TYPE trustify_ingestion_backlog gauge
+                trustify_ingestion_backlog_total 100
+                trustify_ingestion_backlog{source="osv"} NaN-ish
+                """;
+        Assertions.assertTrue(ImporterAutoscalerService.parseMetric(body, "trustify_ingestion_backlog").isEmpty());
+    }
+}
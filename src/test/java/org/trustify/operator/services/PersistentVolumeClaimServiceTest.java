@@ -0,0 +1,147 @@
+package org.trustify.operator.services;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.api.model.storage.StorageClass;
+import io.fabric8.kubernetes.api.model.storage.StorageClassBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PersistentVolumeClaimServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Test
+    public void growthIsRequestedForLargerSizesOnly() {
+        Assertions.assertTrue(PersistentVolumeClaimService.isGrowthRequested(spec("1Gi", null), spec("2Gi", null)));
+        Assertions.assertTrue(PersistentVolumeClaimService.isGrowthRequested(spec("1Gi", null), spec("1025Mi", null)));
+        Assertions.assertFalse(PersistentVolumeClaimService.isGrowthRequested(spec("1Gi", null), spec("1024Mi", null)));
+        Assertions.assertFalse(PersistentVolumeClaimService.isGrowthRequested(spec("2Gi", null), spec("1Gi", null)));
+        Assertions.assertFalse(PersistentVolumeClaimService.isGrowthRequested(new PersistentVolumeClaimSpec(), spec("1Gi", null)));
+    }
+
+    @Test
+    public void expansionRequiresAStorageClassAllowingIt() {
+        FakePersistentVolumeClaimService service = new FakePersistentVolumeClaimService(Map.of("expandable", true, "fixed", false));
+
+        Assertions.assertTrue(service.isExpansionRequired(claim("data", "expandable"), spec("2Gi", "expandable")));
+        Assertions.assertFalse(service.isExpansionRequired(claim("data", "fixed"), spec("2Gi", "fixed")));
+        Assertions.assertFalse(service.isExpansionRequired(claim("data", "missing"), spec("2Gi", "missing")));
+        Assertions.assertFalse(service.isExpansionRequired(claim("data", null), spec("2Gi", null)));
+    }
+
+    @Test
+    public void storageClassIsReadOncePerTtl() {
+        FakePersistentVolumeClaimService service = new FakePersistentVolumeClaimService(Map.of("fixed", false));
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertFalse(service.allowsVolumeExpansion("fixed"));
+        }
+        Assertions.assertEquals(1, service.reads.get("fixed"));
+
+        service.storageClasses.put("fixed", true);
+        service.clock = Clock.fixed(NOW.plus(PersistentVolumeClaimService.STORAGE_CLASS_CACHE_TTL), ZoneOffset.UTC);
+        Assertions.assertTrue(service.allowsVolumeExpansion("fixed"));
+        Assertions.assertEquals(2, service.reads.get("fixed"));
+    }
+
+    @Test
+    public void unsupportedExpansionIsReportedUntilNoLongerRequested() {
+        FakePersistentVolumeClaimService service = new FakePersistentVolumeClaimService(Map.of("fixed", false));
+        PersistentVolumeClaim claim = claim("data", "fixed");
+        List<PersistentVolumeClaim> claims = List.of(claim);
+
+        Assertions.assertFalse(service.isExpansionUnsupported(claims));
+
+        service.isExpansionRequired(claim, spec("2Gi", "fixed"));
+        Assertions.assertTrue(service.isExpansionUnsupported(claims));
+        Assertions.assertFalse(service.isExpansionUnsupported(List.of(claim("other", "fixed"))));
+
+        // The size was set back
+        service.isExpansionRequired(claim, spec("1Gi", "fixed"));
+        Assertions.assertFalse(service.isExpansionUnsupported(claims));
+    }
+
+    @Test
+    public void unsupportedExpansionIsReportedUntilTheStorageClassAllowsIt() {
+        FakePersistentVolumeClaimService service = new FakePersistentVolumeClaimService(Map.of("fixed", false));
+        PersistentVolumeClaim claim = claim("data", "fixed");
+
+        Assertions.assertFalse(service.isExpansionRequired(claim, spec("2Gi", "fixed")));
+        Assertions.assertTrue(service.isExpansionUnsupported(List.of(claim)));
+
+        service.storageClasses.put("fixed", true);
+        service.clock = Clock.fixed(NOW.plus(PersistentVolumeClaimService.STORAGE_CLASS_CACHE_TTL), ZoneOffset.UTC);
+        Assertions.assertTrue(service.isExpansionRequired(claim, spec("2Gi", "fixed")));
+        Assertions.assertFalse(service.isExpansionUnsupported(List.of(claim)));
+    }
+
+    @Test
+    public void forgetRemovesTheClaimsOfTheInstance() {
+        FakePersistentVolumeClaimService service = new FakePersistentVolumeClaimService(Map.of("fixed", false));
+        PersistentVolumeClaim claim = claim("data", "fixed");
+        service.isExpansionRequired(claim, spec("2Gi", "fixed"));
+
+        service.forget(trustify("other"));
+        Assertions.assertTrue(service.isExpansionUnsupported(List.of(claim)));
+
+        service.forget(trustify("trustify"));
+        Assertions.assertFalse(service.isExpansionUnsupported(List.of(claim)));
+    }
+
+    static class FakePersistentVolumeClaimService extends PersistentVolumeClaimService {
+        final Map<String, Boolean> storageClasses;
+        final Map<String, Integer> reads = new HashMap<>();
+
+        FakePersistentVolumeClaimService(Map<String, Boolean> storageClasses) {
+            this.storageClasses = new HashMap<>(storageClasses);
+            this.clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        }
+
+        @Override
+        StorageClass getStorageClass(String storageClassName) {
+            reads.merge(storageClassName, 1, Integer::sum);
+            Boolean allowVolumeExpansion = storageClasses.get(storageClassName);
+            if (allowVolumeExpansion == null) {
+                return null;
+            }
+            return new StorageClassBuilder()
+                    .withNewMetadata().withName(storageClassName).endMetadata()
+                    .withAllowVolumeExpansion(allowVolumeExpansion)
+                    .build();
+        }
+    }
+
+    private static PersistentVolumeClaim claim(String name, String storageClassName) {
+        return new PersistentVolumeClaimBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withNamespace("default")
+                .addToLabels("app.kubernetes.io/part-of", "trustify")
+                .endMetadata()
+                .withSpec(spec("1Gi", storageClassName))
+                .build();
+    }
+
+    private static PersistentVolumeClaimSpec spec(String size, String storageClassName) {
+        return new PersistentVolumeClaimSpecBuilder()
+                .withStorageClassName(storageClassName)
+                .withNewResources()
+                .addToRequests("storage", new Quantity(size))
+                .endResources()
+                .build();
+    }
+
+    private static Trustify trustify(String name) {
+        Trustify trustify = new Trustify();
+        trustify.setMetadata(new ObjectMetaBuilder().withName(name).withNamespace("default").build());
+        return trustify;
+    }
+}
@@ -0,0 +1,57 @@
+package org.trustify.operator.utils;
+
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CRDUtilsTest {
+
+    @Test
+    public void podTemplateHashIsStable() {
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("app.kubernetes.io/name", "server");
+        labels.put("app.kubernetes.io/part-of", "trustify");
+
+        Map<String, String> reversedLabels = new LinkedHashMap<>();
+        reversedLabels.put("app.kubernetes.io/part-of", "trustify");
+        reversedLabels.put("app.kubernetes.io/name", "server");
+
+        String hash = CRDUtils.getPodTemplateHash(podTemplate(labels, "quay.io/trustify/trustify:1"));
+        Assertions.assertEquals(hash, CRDUtils.getPodTemplateHash(podTemplate(labels, "quay.io/trustify/trustify:1")));
+        Assertions.assertEquals(hash, CRDUtils.getPodTemplateHash(podTemplate(reversedLabels, "quay.io/trustify/trustify:1")));
+
+        // The hash is persisted in the annotations, it must not change across operator versions or restarts
+        Assertions.assertEquals(GOLDEN_HASH, hash);
+    }
+
+    @Test
+    public void podTemplateHashChangesWithTemplate() {
+        Map<String, String> labels = Map.of("app.kubernetes.io/name", "server");
+        Assertions.assertNotEquals(
+                CRDUtils.getPodTemplateHash(podTemplate(labels, "quay.io/trustify/trustify:1")),
+                CRDUtils.getPodTemplateHash(podTemplate(labels, "quay.io/trustify/trustify:2"))
+        );
+    }
+
+    private static final String GOLDEN_HASH = "50822c9e8f7dade23f346c7441710006262f1454b803a5dd820d878101c97162";
+
+    private static PodTemplateSpec podTemplate(Map<String, String> labels, String image) {
+        return new PodTemplateSpecBuilder()
+                .withNewMetadata()
+                .withLabels(labels)
+                .endMetadata()
+                .withNewSpec()
+                .addNewContainer()
+                .withName("server")
+                .withImage(image)
+                .withEnv(new EnvVarBuilder().withName("HTTP_SERVER_BIND_PORT").withValue("8080").build())
+                .endContainer()
+                .endSpec()
+                .build();
+    }
+}